@@ -11,7 +11,6 @@ import org.betonquest.betonquest.database.PlayerData;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
-import org.betonquest.betonquest.id.ItemID;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.item.QuestItem;
 import org.betonquest.betonquest.utils.Utils;
@@ -289,7 +288,7 @@ public class Backpack implements Listener {
                 present = true;
                 if (!checkDefault || !"DEFAULT".equalsIgnoreCase(buttonString)) {
                     try {
-                        stack = new QuestItem(new ItemID(null, buttonString)).generate(1);
+                        stack = QuestItem.get(null, buttonString).generate(1);
                     } catch (final ObjectNotFoundException | InstructionParseException e) {
                         log.warn("Could not load " + button + " button: " + e.getMessage(), e);
                     }
@@ -567,7 +566,7 @@ public class Backpack implements Listener {
                 }
                 ItemStack compass;
                 try {
-                    compass = new QuestItem(new ItemID(item.getKey(), item.getValue())).generate(1);
+                    compass = QuestItem.get(item.getKey(), item.getValue()).generate(1);
                 } catch (final ObjectNotFoundException e) {
                     log.warn("Could not find item: " + e.getMessage(), e);
                     compass = new ItemStack(Material.COMPASS);
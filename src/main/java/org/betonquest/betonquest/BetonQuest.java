@@ -56,6 +56,7 @@ import org.betonquest.betonquest.database.Database;
 import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.database.MySQL;
 import org.betonquest.betonquest.database.PlayerData;
+import org.betonquest.betonquest.database.PlayerDataLoader;
 import org.betonquest.betonquest.database.SQLite;
 import org.betonquest.betonquest.database.Saver;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
@@ -64,11 +65,13 @@ import org.betonquest.betonquest.id.ConversationID;
 import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.id.QuestCancelerID;
+import org.betonquest.betonquest.item.QuestItem;
 import org.betonquest.betonquest.item.QuestItemHandler;
 import org.betonquest.betonquest.menu.RPGMenu;
 import org.betonquest.betonquest.modules.config.DefaultConfigAccessorFactory;
 import org.betonquest.betonquest.modules.config.DefaultConfigurationFileFactory;
 import org.betonquest.betonquest.modules.config.patcher.migration.Migrator;
+import org.betonquest.betonquest.modules.logger.DebugDemand;
 import org.betonquest.betonquest.modules.logger.DefaultBetonQuestLoggerFactory;
 import org.betonquest.betonquest.modules.logger.HandlerFactory;
 import org.betonquest.betonquest.modules.logger.PlayerLogWatcher;
@@ -111,6 +114,8 @@ import org.betonquest.betonquest.quest.legacy.LegacyTypeFactory;
 import org.betonquest.betonquest.quest.registry.CoreQuestTypes;
 import org.betonquest.betonquest.quest.registry.QuestRegistry;
 import org.betonquest.betonquest.quest.registry.QuestTypeRegistries;
+import org.betonquest.betonquest.quest.registry.processor.ActiveObjectives;
+import org.betonquest.betonquest.quest.registry.processor.ObjectiveEventDispatcher;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.betonquest.betonquest.quest.registry.type.QuestTypeRegistry;
 import org.betonquest.betonquest.utils.PlayerConverter;
@@ -259,6 +264,19 @@ public class BetonQuest extends JavaPlugin {
         return instance.questRegistry.conditions().checks(profile, conditionIDs);
     }
 
+    /**
+     * Checks several groups of conditions at once, each group is met if all of its conditions are met.
+     * Conditions that must be checked on the main thread are checked together, so a check from another thread
+     * waits for the main thread at most once.
+     *
+     * @param profile the {@link Profile} of the player which should be checked
+     * @param groups  the groups of condition IDs to check
+     * @return if the conditions of the group are met, in the order of the groups
+     */
+    public static boolean[] conditionGroups(@Nullable final Profile profile, final List<? extends Collection<ConditionID>> groups) {
+        return instance.questRegistry.conditions().checkGroups(profile, groups);
+    }
+
     /**
      * Checks if the condition described by conditionID is met.
      *
@@ -411,7 +429,8 @@ public class BetonQuest extends JavaPlugin {
     public void onEnable() {
         instance = this;
 
-        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory()));
+        final DebugDemand debugDemand = new DebugDemand();
+        this.loggerFactory = registerAndGetService(BetonQuestLoggerFactory.class, new CachingBetonQuestLoggerFactory(new DefaultBetonQuestLoggerFactory(debugDemand)));
         this.configAccessorFactory = registerAndGetService(ConfigAccessorFactory.class, new DefaultConfigAccessorFactory());
         this.configurationFileFactory = registerAndGetService(ConfigurationFileFactory.class, new DefaultConfigurationFileFactory(loggerFactory, loggerFactory.create(DefaultConfigurationFileFactory.class), configAccessorFactory));
 
@@ -441,6 +460,7 @@ public class BetonQuest extends JavaPlugin {
 
         final HistoryHandler debugHistoryHandler = HandlerFactory.createHistoryHandler(loggerFactory, this, this.getServer().getScheduler(), config, new File(getDataFolder(), "/logs"), InstantSource.system());
         registerLogHandler(getServer(), debugHistoryHandler);
+        debugDemand.addSource(debugHistoryHandler);
         adventure = BukkitAudiences.create(this);
         final AccumulatingReceiverSelector receiverSelector = new AccumulatingReceiverSelector();
         final ChatHandler chatHandler = HandlerFactory.createChatHandler(this, receiverSelector, adventure);
@@ -511,7 +531,9 @@ public class BetonQuest extends JavaPlugin {
 
         pluginManager.registerEvents(new CustomDropListener(loggerFactory.create(CustomDropListener.class)), this);
 
-        final QuestCommand questCommand = new QuestCommand(loggerFactory, loggerFactory.create(QuestCommand.class), configAccessorFactory, adventure, new PlayerLogWatcher(receiverSelector), debugHistoryHandler);
+        final PlayerLogWatcher playerLogWatcher = new PlayerLogWatcher(receiverSelector);
+        debugDemand.addSource(playerLogWatcher);
+        final QuestCommand questCommand = new QuestCommand(loggerFactory, loggerFactory.create(QuestCommand.class), configAccessorFactory, adventure, playerLogWatcher, debugHistoryHandler);
         getCommand("betonquest").setExecutor(questCommand);
         getCommand("betonquest").setTabCompleter(questCommand);
         getCommand("journal").setExecutor(new JournalCommand(this));
@@ -528,6 +550,7 @@ public class BetonQuest extends JavaPlugin {
                 SCHEDULE_TYPES, questTypeRegistries, OBJECTIVE_TYPES);
 
         new CoreQuestTypes(loggerFactory, getServer(), getServer().getScheduler(), this, questRegistry.variables()).register(questTypeRegistries);
+        Bukkit.getScheduler().runTaskTimer(this, questRegistry::clearTickCaches, 1, 1);
 
         registerConversationIO("simple", SimpleConvIO.class);
         registerConversationIO("tellraw", TellrawConvIO.class);
@@ -558,15 +581,7 @@ public class BetonQuest extends JavaPlugin {
         Bukkit.getScheduler().scheduleSyncDelayedTask(this, () -> {
             Compatibility.postHook();
             loadData();
-            for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-                final PlayerData playerData = new PlayerData(onlineProfile);
-                playerDataMap.put(onlineProfile, playerData);
-                playerData.startObjectives();
-                playerData.getJournal().update();
-                if (playerData.getActiveConversation() != null) {
-                    new ConversationResumer(loggerFactory, onlineProfile, playerData.getActiveConversation());
-                }
-            }
+            loadOnlinePlayerData();
 
             try {
                 playerHider = new PlayerHider(this);
@@ -594,6 +609,42 @@ public class BetonQuest extends JavaPlugin {
         log.info("BetonQuest successfully enabled!");
     }
 
+    /**
+     * Loads the data of all online profiles off the main thread and then starts their objectives, updates their
+     * journals and resumes their conversations on the main thread in one pass.
+     * If data was created for a profile on the main thread while it was loading, that data is started instead.
+     */
+    private void loadOnlinePlayerData() {
+        final Collection<OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
+        if (onlineProfiles.isEmpty()) {
+            return;
+        }
+        final PlayerDataLoader loader = new PlayerDataLoader(loggerFactory.create(PlayerDataLoader.class),
+                database.getReadParallelism(), playerDataMap);
+        loader.markPending(onlineProfiles);
+        Bukkit.getScheduler().runTaskAsynchronously(this, () -> {
+            final Map<OnlineProfile, PlayerData> loaded = loader.load(onlineProfiles);
+            Bukkit.getScheduler().runTask(this, () -> {
+                loaded.forEach((onlineProfile, playerData) -> startLoadedPlayerData(loader, onlineProfile, playerData));
+                onlineProfiles.forEach(loader::forget);
+            });
+        });
+    }
+
+    private void startLoadedPlayerData(final PlayerDataLoader loader, final OnlineProfile onlineProfile, final PlayerData loaded) {
+        if (!onlineProfile.getPlayer().isOnline()) {
+            loader.forget(onlineProfile);
+            return;
+        }
+        loader.store(onlineProfile, loaded).ifPresent(playerData -> {
+            playerData.startObjectives();
+            playerData.getJournal().update();
+            if (playerData.getActiveConversation() != null && !Conversation.containsPlayer(onlineProfile)) {
+                new ConversationResumer(loggerFactory, onlineProfile, playerData.getActiveConversation());
+            }
+        });
+    }
+
     private void migratePackages() {
         try {
             new Migrator().migrate();
@@ -638,7 +689,11 @@ public class BetonQuest extends JavaPlugin {
      * @see QuestRegistry#loadData(Collection)
      */
     public void loadData() {
+        QuestItem.clearCache();
+        questRegistry.setTickMemoization(config.getBoolean("tick_memoization", false));
         questRegistry.loadData(Config.getPackages().values());
+        Config.clearMessageCache();
+        Journal.clearMainPageCache();
 
         // start those freshly loaded objectives for all players
         for (final PlayerData playerData : playerDataMap.values()) {
@@ -662,6 +717,7 @@ public class BetonQuest extends JavaPlugin {
             log.warn("Could not reload config! " + e.getMessage(), e);
         }
         Config.setup(this, config);
+        QuestItem.clearCache();
         Notify.load(config);
         lastExecutionCache.reload();
 
@@ -712,7 +768,7 @@ public class BetonQuest extends JavaPlugin {
         }
         Compatibility.disable();
         if (database != null) {
-            database.closeConnection();
+            database.close();
         }
         if (playerHider != null) {
             playerHider.stop();
@@ -984,6 +1040,46 @@ public class BetonQuest extends JavaPlugin {
         return questRegistry.objectives().getActive(profile);
     }
 
+    /**
+     * Forgets the condition outcomes and variable values remembered in this tick for the profile.
+     * Called whenever the data of the profile changes.
+     *
+     * @param profile the {@link Profile} whose data changed
+     */
+    public void invalidateTickCaches(final Profile profile) {
+        if (questRegistry != null) {
+            questRegistry.invalidateTickCaches(profile);
+        }
+    }
+
+    /**
+     * Forgets all condition outcomes and variable values remembered in this tick.
+     * Called whenever global data changes.
+     */
+    public void clearTickCaches() {
+        if (questRegistry != null) {
+            questRegistry.clearTickCaches();
+        }
+    }
+
+    /**
+     * Gets the index of active objectives by profile.
+     *
+     * @return the active objectives index
+     */
+    public ActiveObjectives getActiveObjectives() {
+        return questRegistry.objectives().getActiveObjectives();
+    }
+
+    /**
+     * Gets the dispatcher routing events to the objectives active for the player causing them.
+     *
+     * @return the objective event dispatcher
+     */
+    public ObjectiveEventDispatcher getObjectiveEventDispatcher() {
+        return questRegistry.objectives().getEventDispatcher();
+    }
+
     /**
      * Gets stored Conversation Data.
      * <p>
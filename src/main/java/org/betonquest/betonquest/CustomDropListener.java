@@ -3,7 +3,6 @@ package org.betonquest.betonquest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
-import org.betonquest.betonquest.id.ItemID;
 import org.betonquest.betonquest.item.QuestItem;
 import org.bukkit.NamespacedKey;
 import org.bukkit.event.EventHandler;
@@ -32,7 +31,7 @@ public class CustomDropListener implements Listener {
             if (dataContainerValue != null) {
                 final int separatorIndex = dataContainerValue.indexOf(':');
                 try {
-                    event.getDrops().add(new QuestItem(new ItemID(null, dataContainerValue.substring(0, separatorIndex)))
+                    event.getDrops().add(QuestItem.get(null, dataContainerValue.substring(0, separatorIndex))
                             .generate(Integer.parseInt(dataContainerValue.substring(separatorIndex + 1))));
                 } catch (final InstructionParseException | ObjectNotFoundException e) {
                     log.warn("Error when dropping custom item from entity: " + e.getMessage(), e);
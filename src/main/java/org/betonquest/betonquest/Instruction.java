@@ -348,7 +348,7 @@ public class Instruction {
             return null;
         }
         try {
-            return new QuestItem(new ItemID(pack, string));
+            return QuestItem.get(pack, string);
         } catch (final ObjectNotFoundException | InstructionParseException e) {
             throw new PartParseException("Could not load '" + string + "' item: " + e.getMessage(), e);
         }
@@ -703,7 +703,7 @@ public class Instruction {
 
         public Item(final ItemID itemID, final VariableNumber amount) throws InstructionParseException {
             this.itemID = itemID;
-            this.questItem = new QuestItem(itemID);
+            this.questItem = QuestItem.get(itemID);
             this.amount = amount;
         }
 
@@ -91,5 +91,6 @@ public class JoinQuitListener implements Listener {
             objective.pauseObjectiveForPlayer(onlineProfile);
         }
         betonQuest.removePlayerData(onlineProfile);
+        Bukkit.getScheduler().runTask(betonQuest, () -> PlayerConverter.removeID(event.getPlayer()));
     }
 }
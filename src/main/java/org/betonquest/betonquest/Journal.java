@@ -37,7 +37,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents player's journal.
@@ -45,6 +48,11 @@ import java.util.Set;
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidLiteralsInIfCondition", "PMD.CyclomaticComplexity",
         "PMD.TooManyMethods"})
 public class Journal {
+    /**
+     * The compiled main page lines of each package.
+     */
+    private static final Map<QuestPackage, List<MainPageLine>> MAIN_PAGE_LINES = new ConcurrentHashMap<>();
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -63,6 +71,17 @@ public class Journal {
     @Nullable
     private String mainPage;
 
+    /**
+     * The compiled entries by pointer, so only new pointers and entries of reloaded packages
+     * or another language have to be looked up and parsed again.
+     */
+    private Map<Pointer, EntryTemplate> entryTemplates = new HashMap<>();
+
+    /**
+     * Whether an update is scheduled.
+     */
+    private final AtomicBoolean updatePending = new AtomicBoolean();
+
     /**
      * Creates new Journal instance from List of Pointers.
      *
@@ -79,6 +98,13 @@ public class Journal {
         this.config = config;
     }
 
+    /**
+     * Removes the compiled main page lines, so they are compiled again from the reloaded packages.
+     */
+    public static void clearMainPageCache() {
+        MAIN_PAGE_LINES.clear();
+    }
+
     /**
      * Checks if the item is journal
      *
@@ -139,6 +165,7 @@ public class Journal {
         final BetonQuest betonQuest = BetonQuest.getInstance();
         betonQuest.callSyncBukkitEvent(new PlayerJournalAddEvent(profile, this, pointer));
         pointers.add(pointer);
+        betonQuest.invalidateTickCaches(profile);
         // SQLite doesn't accept formatted date and MySQL doesn't accept numeric
         // timestamp
         final String date = betonQuest.isMySQLUsed()
@@ -164,6 +191,7 @@ public class Journal {
                 betonQuest.getSaver()
                         .add(new Record(UpdateType.REMOVE_JOURNAL, profile.getProfileUUID().toString(), pointer.getPointer(), date));
                 pointers.remove(pointer);
+                betonQuest.invalidateTickCaches(profile);
                 break;
             }
         }
@@ -193,67 +221,88 @@ public class Journal {
      *
      * @param lang the language to use while generating text
      */
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public void generateTexts(final String lang) {
         // remove previous texts
         texts.clear();
         this.lang = lang;
         // generate the first page
         mainPage = generateMainPage();
+        final Map<Pointer, EntryTemplate> templates = new HashMap<>();
         for (final Pointer pointer : pointers) {
-            // if date should not be hidden, generate the date prefix
-            String datePrefix = "";
-            if ("false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
-                final String date = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT)
-                        .format(pointer.getTimestamp());
-                final String[] dateParts = date.split(" ");
-                final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
-                String hour = "";
-                if (dateParts.length > 1) {
-                    hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
-                }
-                datePrefix = day + " " + hour + "\n";
+            final EntryTemplate template = getEntryTemplate(pointer);
+            if (template != null) {
+                templates.put(pointer, template);
+                // add the entry to the list
+                texts.add(template.prefix() + template.text().resolve(profile));
             }
-            // get package and name of the pointer
-            final String[] parts = pointer.getPointer().split("\\.");
-            final String packName = parts[0];
-            final QuestPackage pack = Config.getPackages().get(packName);
-            if (pack == null) {
-                continue;
+        }
+        entryTemplates = templates;
+    }
+
+    @Nullable
+    private EntryTemplate getEntryTemplate(final Pointer pointer) {
+        // get package and name of the pointer
+        final String[] parts = pointer.getPointer().split("\\.");
+        final QuestPackage pack = Config.getPackages().get(parts[0]);
+        if (pack == null) {
+            return null;
+        }
+        final EntryTemplate cached = entryTemplates.get(pointer);
+        if (cached != null && cached.pack() == pack && cached.lang().equals(lang)) {
+            return cached;
+        }
+        return compileEntry(pointer, pack, parts[1]);
+    }
+
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private EntryTemplate compileEntry(final Pointer pointer, final QuestPackage pack, final String pointerName) {
+        // if date should not be hidden, generate the date prefix
+        String datePrefix = "";
+        if ("false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
+            final String date = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT)
+                    .format(pointer.getTimestamp());
+            final String[] dateParts = date.split(" ");
+            final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
+            String hour = "";
+            if (dateParts.length > 1) {
+                hour = "§" + config.getString("journal_colors.date.hour") + dateParts[1];
             }
-            final String pointerName = parts[1];
-            // resolve the text in player's language
-            String text;
-            final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
-            if (journal != null && journal.contains(pointerName)) {
-                if (journal.isConfigurationSection(pointerName)) {
-                    text = pack.getFormattedString("journal." + pointerName + "." + lang);
-                    if (text == null) {
-                        text = pack.getFormattedString("journal." + pointerName + "." + Config.getLanguage());
-                    }
-                } else {
-                    text = pack.getFormattedString("journal." + pointerName);
+            datePrefix = day + " " + hour + "\n";
+        }
+        // resolve the text in player's language
+        String text;
+        final ConfigurationSection journal = pack.getConfig().getConfigurationSection("journal");
+        if (journal != null && journal.contains(pointerName)) {
+            if (journal.isConfigurationSection(pointerName)) {
+                text = pack.getFormattedString("journal." + pointerName + "." + lang);
+                if (text == null) {
+                    text = pack.getFormattedString("journal." + pointerName + "." + Config.getLanguage());
                 }
             } else {
-                log.warn(pack, "No defined journal entry " + pointerName + " in package " + pack.getQuestPath());
-                text = "error";
+                text = pack.getFormattedString("journal." + pointerName);
             }
+        } else {
+            log.warn(pack, "No defined journal entry " + pointerName + " in package " + pack.getQuestPath());
+            text = "error";
+        }
 
-            // handle case when the text isn't defined
-            if (text == null) {
-                log.warn(pack, "No text defined for journal entry " + pointerName + " in language " + lang);
-                text = "error";
-            }
+        // handle case when the text isn't defined
+        if (text == null) {
+            log.warn(pack, "No text defined for journal entry " + pointerName + " in language " + lang);
+            text = "error";
+        }
 
-            try {
-                text = new VariableString(pack, text).getString(profile);
-            } catch (final InstructionParseException e) {
-                log.warn(pack, "Error while creating variable on journal page '" + pointerName + "' in "
-                        + profile + " journal: " + e.getMessage(), e);
-            }
+        final String prefix = datePrefix + "§" + config.getString("journal_colors.text");
+        return new EntryTemplate(pack, lang, prefix, compileText(pack, text,
+                "Error while creating variable on journal page '" + pointerName + "' in " + profile + " journal: "));
+    }
 
-            // add the entry to the list
-            texts.add(datePrefix + "§" + config.getString("journal_colors.text") + text);
+    private CompiledText compileText(final QuestPackage pack, final String text, final String errorMessage) {
+        try {
+            return new CompiledText(text, new VariableString(pack, text));
+        } catch (final InstructionParseException e) {
+            log.warn(pack, errorMessage + e.getMessage(), e);
+            return new CompiledText(text, null);
         }
     }
 
@@ -262,81 +311,87 @@ public class Journal {
      *
      * @return the main page string or null, if there is no main page
      */
-    @SuppressWarnings({"PMD.NcssCount", "PMD.NPathComplexity", "PMD.CognitiveComplexity"})
     @Nullable
     private String generateMainPage() {
         final Map<Integer, List<String>> lines = new HashMap<>(); // holds text lines with their priority
         final Set<Integer> numbers = new HashSet<>(); // stores numbers that are used, so there's no need to search them
         for (final QuestPackage pack : Config.getPackages().values()) {
-            final String packName = pack.getQuestPath();
-            final ConfigurationSection section = pack.getConfig().getConfigurationSection("journal_main_page");
-            if (section == null) {
+            for (final MainPageLine line : MAIN_PAGE_LINES.computeIfAbsent(pack, this::compileMainPageLines)) {
+                if (!line.conditions().isEmpty() && !BetonQuest.conditions(profile, line.conditions())) {
+                    continue;
+                }
+                // here conditions are met, get the text in player's language
+                final Optional<CompiledText> text = line.texts().computeIfAbsent(lang, textLang -> compileMainPageText(line, textLang));
+                if (text.isEmpty()) {
+                    continue;
+                }
+                // add the text to HashMap
+                numbers.add(line.priority());
+                lines.computeIfAbsent(line.priority(), priority -> new ArrayList<>())
+                        .add(text.get().resolve(profile) + "§r"); // reset the formatting
+            }
+        }
+        if (numbers.isEmpty()) {
+            return null;
+        }
+        return sort(numbers, lines);
+    }
+
+    private List<MainPageLine> compileMainPageLines(final QuestPackage pack) {
+        final ConfigurationSection section = pack.getConfig().getConfigurationSection("journal_main_page");
+        if (section == null) {
+            return List.of();
+        }
+        final List<MainPageLine> lines = new ArrayList<>();
+        for (final String key : section.getKeys(false)) {
+            final int number = section.getInt(key + ".priority", -1);
+            if (number < 0) {
+                log.warn(pack, "Priority of " + pack.getQuestPath() + "." + key
+                        + " journal main page line is not defined");
                 continue;
             }
-            for (final String key : section.getKeys(false)) {
-                final int number = section.getInt(key + ".priority", -1);
-                if (number >= 0) {
-                    final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
-                    if (rawConditions != null && !rawConditions.isEmpty()) {
-                        try {
-                            final List<ConditionID> pageConditions = new ArrayList<>();
-                            for (final String conditionString : rawConditions.split(",")) {
-                                if (!conditionString.isEmpty()) {
-                                    pageConditions.add(new ConditionID(pack, conditionString));
-                                }
-                            }
-
-                            if (!BetonQuest.conditions(profile, pageConditions)) {
-                                continue;
-                            }
-                        } catch (final ObjectNotFoundException e) {
-                            log.warn(pack, "Error while generating main page in " + profile + " journal: " + e.getMessage(), e);
-                            continue;
-                        }
-                    }
-                    // here conditions are met, get the text in player's language
-                    String text;
-                    if (section.isConfigurationSection(key + ".text")) {
-                        text = section.getString(key + ".text." + lang);
-                        if (text == null) {
-                            text = section.getString(key + ".text." + Config.getLanguage());
+            final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
+            final List<ConditionID> pageConditions = new ArrayList<>();
+            if (rawConditions != null && !rawConditions.isEmpty()) {
+                try {
+                    for (final String conditionString : rawConditions.split(",")) {
+                        if (!conditionString.isEmpty()) {
+                            pageConditions.add(new ConditionID(pack, conditionString));
                         }
-                        if (text == null) {
-                            text = section.getString(key + ".text.en");
-                        }
-                    } else {
-                        text = section.getString(key + ".text");
-                    }
-                    if (text == null || text.length() == 0) {
-                        continue;
-                    }
-                    text = GlobalVariableResolver.resolve(pack, text);
-                    try {
-                        text = new VariableString(pack, text).getString(profile);
-                    } catch (final InstructionParseException e) {
-                        log.warn(pack, "Error while creating variable on main page in "
-                                + profile + " journal: " + e.getMessage(), e);
-                    }
-                    // add the text to HashMap
-                    numbers.add(number);
-                    final List<String> linesOrder;
-                    if (lines.containsKey(number)) {
-                        linesOrder = lines.get(number);
-                    } else {
-                        linesOrder = new ArrayList<>();
-                        lines.put(number, linesOrder);
                     }
-                    linesOrder.add(text + "§r"); // reset the formatting
-                } else {
-                    log.warn(pack, "Priority of " + packName + "." + key
-                            + " journal main page line is not defined");
+                } catch (final ObjectNotFoundException e) {
+                    log.warn(pack, "Error while loading journal main page line " + pack.getQuestPath() + "." + key
+                            + ": " + e.getMessage(), e);
+                    continue;
                 }
             }
+            lines.add(new MainPageLine(pack, section, key, number, pageConditions, new ConcurrentHashMap<>()));
         }
-        if (numbers.isEmpty()) {
-            return null;
+        return lines;
+    }
+
+    private Optional<CompiledText> compileMainPageText(final MainPageLine line, final String textLang) {
+        final ConfigurationSection section = line.section();
+        final String key = line.key();
+        String text;
+        if (section.isConfigurationSection(key + ".text")) {
+            text = section.getString(key + ".text." + textLang);
+            if (text == null) {
+                text = section.getString(key + ".text." + Config.getLanguage());
+            }
+            if (text == null) {
+                text = section.getString(key + ".text.en");
+            }
+        } else {
+            text = section.getString(key + ".text");
         }
-        return sort(numbers, lines);
+        if (text == null || text.isEmpty()) {
+            return Optional.empty();
+        }
+        final QuestPackage pack = line.pack();
+        return Optional.of(compileText(pack, GlobalVariableResolver.resolve(pack, text),
+                "Error while creating variable on journal main page line " + pack.getQuestPath() + "." + key
+                        + " in language " + textLang + ": "));
     }
 
     @SuppressWarnings("NullAway")
@@ -369,10 +424,13 @@ public class Journal {
      * Adds journal to player inventory.
      */
     public void addToInv() {
-        final int targetSlot = getJournalSlot();
         generateTexts(lang);
+        addToInv(getAsItem());
+    }
+
+    private void addToInv(final ItemStack item) {
+        final int targetSlot = getJournalSlot();
         final Inventory inventory = profile.getOnlineProfile().get().getPlayer().getInventory();
-        final ItemStack item = getAsItem();
         if (inventory.firstEmpty() >= 0) {
             if (targetSlot < 0) {
                 inventory.addItem(item);
@@ -462,11 +520,44 @@ public class Journal {
     }
 
     /**
-     * Updates journal by removing it and adding it again
+     * Updates journal by removing it and adding it again. Nothing is changed in the inventory if the journal
+     * did not change.
      */
     public void update() {
-        if (hasJournal(profile.getOnlineProfile().get())) {
-            addToInv();
+        updatePending.set(false);
+        final OnlineProfile onlineProfile = profile.getOnlineProfile().get();
+        for (final ItemStack current : onlineProfile.getPlayer().getInventory().getContents()) {
+            if (isJournal(onlineProfile, current)) {
+                generateTexts(lang);
+                final ItemStack item = getAsItem();
+                if (!item.equals(current)) {
+                    addToInv(item);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Updates the journal after {@code journal.update_interval} ticks, so many changes in a short time,
+     * like the progress of an objective, only update it once.
+     */
+    public void scheduleUpdate() {
+        final long interval = config.getLong("journal.update_interval", 20);
+        if (interval <= 0) {
+            if (profile.getOnlineProfile().isPresent()) {
+                update();
+            }
+            return;
+        }
+        if (updatePending.compareAndSet(false, true)) {
+            final BetonQuest plugin = BetonQuest.getInstance();
+            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+                if (updatePending.get() && profile.getOnlineProfile().isPresent()) {
+                    update();
+                }
+                updatePending.set(false);
+            }, interval);
         }
     }
 
@@ -486,4 +577,48 @@ public class Journal {
         }
         return -1;
     }
+
+    /**
+     * A text that may contain variables, parsed once.
+     *
+     * @param text      the raw text
+     * @param variables the parsed variables or null if the text could not be parsed
+     */
+    private record CompiledText(String text, @Nullable VariableString variables) {
+        private String resolve(final Profile profile) {
+            if (variables == null) {
+                return text;
+            }
+            try {
+                return variables.getValue(profile);
+            } catch (final QuestRuntimeException e) {
+                return "";
+            }
+        }
+    }
+
+    /**
+     * A journal entry ready to be resolved for the player.
+     *
+     * @param pack   the package the entry was compiled for
+     * @param lang   the language the entry was compiled for
+     * @param prefix the date and color prefix
+     * @param text   the text of the entry
+     */
+    private record EntryTemplate(QuestPackage pack, String lang, String prefix, CompiledText text) {
+    }
+
+    /**
+     * A line of the main page with its parsed conditions.
+     *
+     * @param pack       the package defining the line
+     * @param section    the main page section of the package
+     * @param key        the key of the line in the section
+     * @param priority   the priority of the line
+     * @param conditions the conditions that must be met to show the line
+     * @param texts      the compiled texts by language, empty if there is no text
+     */
+    private record MainPageLine(QuestPackage pack, ConfigurationSection section, String key, int priority,
+                                List<ConditionID> conditions, Map<String, Optional<CompiledText>> texts) {
+    }
 }
@@ -1,5 +1,7 @@
 package org.betonquest.betonquest;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 /**
  * Represents the point category.
  */
@@ -11,9 +13,9 @@ public class Point {
     private final String category;
 
     /**
-     * Amount of these points.
+     * Amount of these points, readable without locking the owner of this point.
      */
-    private int count;
+    private volatile int count;
 
     /**
      * Creates new instance of the Point object.
@@ -45,10 +47,12 @@ public class Point {
     }
 
     /**
-     * Adds points in this category
+     * Adds points in this category.
+     * Changes have to be made while holding the lock of the owner of this point.
      *
      * @param add amount of the points to add
      */
+    @SuppressFBWarnings("VO_VOLATILE_INCREMENT")
     public void addPoints(final int add) {
         this.count = this.count + add;
     }
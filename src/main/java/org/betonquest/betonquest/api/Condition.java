@@ -76,6 +76,16 @@ public abstract class Condition extends ForceSyncHandler<Boolean> {
         return persistent;
     }
 
+    /**
+     * Checks if the condition can only be checked on the server's main thread.
+     * Checking such a condition from another thread waits for the main thread.
+     *
+     * @return if the condition is checked on the main thread
+     */
+    public boolean isPrimaryThreadOnly() {
+        return isForceSync();
+    }
+
     /**
      * This method should contain all logic for the condition and use data
      * parsed by the constructor. Don't worry about inverting the condition,
@@ -33,6 +33,15 @@ public abstract class ForceSyncHandler<T> {
         this.forceSync = forceSync;
     }
 
+    /**
+     * Checks if {@link ForceSyncHandler#execute(Profile)} always runs on the server's main thread.
+     *
+     * @return if the execution is forced to be sync
+     */
+    public final boolean isForceSync() {
+        return forceSync;
+    }
+
     /**
      * This methods implementation will be executed by the {@link ForceSyncHandler#handle(Profile)} method.
      *
@@ -3,6 +3,7 @@ package org.betonquest.betonquest.api;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.GlobalObjectives;
 import org.betonquest.betonquest.Instruction;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.api.profiles.Profile;
@@ -16,7 +17,11 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ObjectiveID;
+import org.betonquest.betonquest.quest.registry.processor.ObjectiveEventDispatcher;
 import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
@@ -24,6 +29,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -131,6 +138,33 @@ public abstract class Objective {
      */
     public abstract void start();
 
+    /**
+     * Subscribes this objective to an event. The handler is only called for events caused by a player who has this
+     * objective active, so it does not need to check {@link #containsPlayer(Profile)} itself.
+     * Subscriptions are usually made in {@link #start()} and removed with {@link #unsubscribe()} in {@link #stop()}.
+     *
+     * @param eventClass      the type of the event
+     * @param priority        the priority to listen on
+     * @param playerExtractor gets the player causing the event or null if no player is involved;
+     *                        should be a method reference like {@code BlockBreakEvent::getPlayer}
+     * @param handler         handles the event for the profile of the player
+     * @param <E>             the type of the event
+     * @see ObjectiveEventDispatcher#subscribe(Objective, Class, EventPriority, Function, BiConsumer)
+     */
+    protected final <E extends Event> void subscribe(final Class<E> eventClass, final EventPriority priority,
+                                                     final Function<? super E, Player> playerExtractor,
+                                                     final BiConsumer<? super E, OnlineProfile> handler) {
+        BetonQuest.getInstance().getObjectiveEventDispatcher().subscribe(this, eventClass, priority, playerExtractor, handler);
+    }
+
+    /**
+     * Removes all event subscriptions of this objective made with
+     * {@link #subscribe(Class, EventPriority, Function, BiConsumer)}.
+     */
+    protected final void unsubscribe() {
+        BetonQuest.getInstance().getObjectiveEventDispatcher().unsubscribe(this);
+    }
+
     /**
      * This method is called by the plugin when the objective starts for a specific profile.
      *
@@ -401,12 +435,16 @@ public abstract class Objective {
             start();
         }
         dataMap.put(profile, data);
+        BetonQuest.getInstance().getActiveObjectives().add(profile, this);
+        BetonQuest.getInstance().invalidateTickCaches(profile);
         start(profile);
     }
 
     private void deactivateObjective(final Profile profile) {
         stop(profile);
         dataMap.remove(profile);
+        BetonQuest.getInstance().getActiveObjectives().remove(profile, this);
+        BetonQuest.getInstance().invalidateTickCaches(profile);
         if (dataMap.isEmpty()) {
             stop();
         }
@@ -447,6 +485,15 @@ public abstract class Objective {
         return instruction.getID().getFullID();
     }
 
+    /**
+     * Returns the package this objective is defined in.
+     *
+     * @return the package of the objective
+     */
+    public final QuestPackage getPackage() {
+        return instruction.getPackage();
+    }
+
     /**
      * Sets the label of this objective. Don't worry about it, it's only used by
      * the rest of BetonQuest's logic.
@@ -575,14 +622,14 @@ public abstract class Objective {
          */
         protected final void update() {
             final Saver saver = BetonQuest.getInstance().getSaver();
-            saver.add(new Saver.Record(UpdateType.REMOVE_OBJECTIVES, profile.getProfileUUID().toString(), objID));
-            saver.add(new Saver.Record(UpdateType.ADD_OBJECTIVES, profile.getProfileUUID().toString(), objID, toString()));
+            saver.add(new Saver.Record(UpdateType.UPSERT_OBJECTIVES, profile.getProfileUUID().toString(), objID, toString()));
+            BetonQuest.getInstance().invalidateTickCaches(profile);
             final QuestDataUpdateEvent event = new QuestDataUpdateEvent(profile, objID, toString());
             final Server server = BetonQuest.getInstance().getServer();
             server.getScheduler().runTask(BetonQuest.getInstance(), () -> server.getPluginManager().callEvent(event));
             // update the journal so all possible variables display correct
             // information
-            BetonQuest.getInstance().getPlayerData(profile).getJournal().update();
+            BetonQuest.getInstance().getPlayerData(profile).getJournal().scheduleUpdate();
         }
     }
 
@@ -5,6 +5,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginLogger;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -72,6 +73,34 @@ public interface BetonQuestLogger {
      */
     void debug(@Nullable QuestPackage pack, @Nullable String msg, Throwable thrown);
 
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only built if {@link BetonQuestLogger#isDebugEnabled(QuestPackage)} is true.
+     * <p>
+     * Use this instead of {@link BetonQuestLogger#debug(QuestPackage, String)} in frequently called code,
+     * where concatenating the message would be wasted most of the time.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @param msg  The supplier of the message to log.
+     */
+    default void debug(@Nullable final QuestPackage pack, final Supplier<String> msg) {
+        if (isDebugEnabled(pack)) {
+            debug(pack, msg.get());
+        }
+    }
+
+    /**
+     * Checks if a debug message of the package would be used by any log handler.
+     * <p>
+     * Use this to skip expensive preparations for debug messages.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @return true if debug messages of the package are needed
+     */
+    default boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return true;
+    }
+
     /**
      * Logs a normal message with the {@link Level#INFO} level to the log.
      * <p>
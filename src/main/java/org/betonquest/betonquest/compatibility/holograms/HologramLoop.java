@@ -3,12 +3,12 @@ package org.betonquest.betonquest.compatibility.holograms;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
-import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.compatibility.holograms.lines.AbstractLine;
 import org.betonquest.betonquest.compatibility.holograms.lines.ItemLine;
 import org.betonquest.betonquest.compatibility.holograms.lines.TextLine;
 import org.betonquest.betonquest.compatibility.holograms.lines.TopLine;
 import org.betonquest.betonquest.compatibility.holograms.lines.TopXObject;
+import org.betonquest.betonquest.compatibility.holograms.lines.TopXService;
 import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
@@ -51,9 +51,9 @@ public abstract class HologramLoop {
     private static final String ORDER_ASC = "asc";
 
     /**
-     * The {@link BetonQuestLoggerFactory} to use for creating {@link BetonQuestLogger} instances.
+     * The service refreshing the rankings of top lines.
      */
-    private final BetonQuestLoggerFactory loggerFactory;
+    private final TopXService topXService;
 
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
@@ -63,12 +63,12 @@ public abstract class HologramLoop {
     /**
      * Creates a new instance of the loop.
      *
-     * @param loggerFactory logger factory to use
-     * @param log           the logger that will be used for logging
+     * @param log         the logger that will be used for logging
+     * @param topXService the service refreshing the rankings of top lines
      */
-    public HologramLoop(final BetonQuestLoggerFactory loggerFactory, final BetonQuestLogger log) {
-        this.loggerFactory = loggerFactory;
+    public HologramLoop(final BetonQuestLogger log, final TopXService topXService) {
         this.log = log;
+        this.topXService = topXService;
     }
 
     /**
@@ -183,7 +183,7 @@ public abstract class HologramLoop {
             } catch (final NumberFormatException | ArrayIndexOutOfBoundsException e) {
                 stackSize = 1;
             }
-            return new ItemLine(new QuestItem(itemID).generate(stackSize));
+            return new ItemLine(QuestItem.get(itemID).generate(stackSize));
         } catch (final ObjectNotFoundException | InstructionParseException e) {
             throw new InstructionParseException("Error while loading item: " + e.getMessage(), e);
         }
@@ -220,7 +220,7 @@ public abstract class HologramLoop {
         final ChatColor colorName = getColorCodes(validator.group(5));
         final ChatColor colorDash = getColorCodes(validator.group(6));
         final ChatColor colorScore = getColorCodes(validator.group(7));
-        return new TopLine(loggerFactory, pointName, orderType, limit, new TopLine.FormatColors(colorPlace, colorName, colorDash, colorScore));
+        return new TopLine(topXService, pointName, orderType, limit, new TopLine.FormatColors(colorPlace, colorName, colorDash, colorScore));
     }
 
     private ChatColor getColorCodes(@Nullable final String color) {
@@ -7,6 +7,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.compatibility.Compatibility;
 import org.betonquest.betonquest.compatibility.Integrator;
 import org.betonquest.betonquest.compatibility.citizens.CitizensHologramLoop;
+import org.betonquest.betonquest.compatibility.holograms.lines.TopXService;
 import org.betonquest.betonquest.exceptions.HookException;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Bukkit;
@@ -64,6 +65,11 @@ public final class HologramProvider implements Integrator {
     @Nullable
     private CitizensHologramLoop citizensHologramLoop;
 
+    /**
+     * The service refreshing the rankings of top lines.
+     */
+    private final TopXService topXService;
+
     /**
      * Creates a new HologramProvider object and assigns it to singleton instance if not already
      *
@@ -71,6 +77,7 @@ public final class HologramProvider implements Integrator {
      */
     private HologramProvider(final HologramIntegrator integrator) {
         this.integrator = integrator;
+        this.topXService = new TopXService(BetonQuest.getInstance().getLoggerFactory());
     }
 
     /**
@@ -149,12 +156,18 @@ public final class HologramProvider implements Integrator {
         return integrator.parseVariable(pack, text);
     }
 
+    private void startTopXService() {
+        final BetonQuest plugin = BetonQuest.getInstance();
+        topXService.start(plugin, plugin.getPluginConfig().getInt("hologram_update_interval", 10 * 20));
+    }
+
     @Override
     public void hook() throws HookException {
         final BetonQuestLoggerFactory loggerFactory = BetonQuest.getInstance().getLoggerFactory();
-        this.locationHologramLoop = new LocationHologramLoop(loggerFactory, loggerFactory.create(LocationHologramLoop.class));
+        startTopXService();
+        this.locationHologramLoop = new LocationHologramLoop(loggerFactory.create(LocationHologramLoop.class), topXService);
         if (Compatibility.getHooked().contains("Citizens")) {
-            this.citizensHologramLoop = new CitizensHologramLoop(loggerFactory, loggerFactory.create(CitizensHologramLoop.class));
+            this.citizensHologramLoop = new CitizensHologramLoop(loggerFactory.create(CitizensHologramLoop.class), topXService);
         }
         new HologramListener();
     }
@@ -164,15 +177,16 @@ public final class HologramProvider implements Integrator {
         synchronized (HologramProvider.class) {
             if (instance != null && instance.locationHologramLoop != null) {
                 HologramRunner.cancel();
+                instance.startTopXService();
 
                 Collections.sort(ATTEMPTED_INTEGRATIONS);
 
                 instance.integrator = ATTEMPTED_INTEGRATIONS.get(0);
                 final BetonQuestLoggerFactory loggerFactory = BetonQuest.getInstance().getLoggerFactory();
-                instance.locationHologramLoop = new LocationHologramLoop(loggerFactory, loggerFactory.create(LocationHologramLoop.class));
+                instance.locationHologramLoop = new LocationHologramLoop(loggerFactory.create(LocationHologramLoop.class), instance.topXService);
                 if (instance.citizensHologramLoop != null) {
                     instance.citizensHologramLoop.close();
-                    instance.citizensHologramLoop = new CitizensHologramLoop(loggerFactory, loggerFactory.create(CitizensHologramLoop.class));
+                    instance.citizensHologramLoop = new CitizensHologramLoop(loggerFactory.create(CitizensHologramLoop.class), instance.topXService);
                 }
             }
         }
@@ -183,6 +197,7 @@ public final class HologramProvider implements Integrator {
         synchronized (HologramProvider.class) {
             if (instance != null && instance.locationHologramLoop != null) {
                 HologramRunner.cancel();
+                instance.topXService.stop();
                 instance.locationHologramLoop = null;
                 if (instance.citizensHologramLoop != null) {
                     instance.citizensHologramLoop.close();
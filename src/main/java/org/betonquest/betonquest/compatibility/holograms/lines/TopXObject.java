@@ -3,16 +3,22 @@ package org.betonquest.betonquest.compatibility.holograms.lines;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.database.Connector;
 import org.betonquest.betonquest.database.QueryType;
-import org.bukkit.Bukkit;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Holds data of a ranking.
+ * <p>
+ * The entries are replaced as a whole by {@link #queryDB()}, so they can be read from the main thread
+ * while the ranking is refreshed asynchronously.
  */
 public class TopXObject {
     /**
@@ -23,7 +29,7 @@ public class TopXObject {
     /**
      * Number of lines stored in maximum.
      */
-    private final int limit;
+    private final AtomicInteger limit;
 
     /**
      * Name of BetonQuest point.
@@ -35,48 +41,90 @@ public class TopXObject {
      */
     private final OrderType orderType;
 
+    /**
+     * Resolves the names of the players.
+     */
+    private final Function<UUID, String> nameResolver;
+
+    /**
+     * Whether the points of the category changed since the last database request.
+     */
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
     /**
      * Entries of last database request. Will not exceed {@link #limit}.
      */
-    private final List<TopXLine> entries = new ArrayList<>();
+    private volatile List<TopXLine> entries = List.of();
 
     /**
      * Creates new instance of TopXObject.
      *
-     * @param log       the logger that will be used for logging
-     * @param limit     Number of lines
-     * @param category  Name of point
-     * @param orderType Direction of order
+     * @param log          the logger that will be used for logging
+     * @param limit        Number of lines
+     * @param category     Name of point
+     * @param orderType    Direction of order
+     * @param nameResolver resolves the names of the players
      */
-    public TopXObject(final BetonQuestLogger log, final int limit, final String category, final OrderType orderType) {
+    public TopXObject(final BetonQuestLogger log, final int limit, final String category, final OrderType orderType,
+                      final Function<UUID, String> nameResolver) {
         this.log = log;
         this.category = category;
-        this.limit = limit;
+        this.limit = new AtomicInteger(limit);
         this.orderType = orderType;
+        this.nameResolver = nameResolver;
     }
 
     public List<TopXLine> getEntries() {
         return entries;
     }
 
+    /**
+     * Raises the number of stored lines if it is lower than the given limit.
+     *
+     * @param required the number of lines needed
+     */
+    public void requireLimit(final int required) {
+        if (limit.getAndAccumulate(required, Math::max) < required) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Marks the ranking as outdated, because points of its category changed.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Checks if the ranking is outdated and resets the flag.
+     *
+     * @return true if the points of the category changed since the last call
+     */
+    public boolean pollDirty() {
+        return dirty.getAndSet(false);
+    }
+
     /**
      * Updates the currently stored entries with data from the database.
      */
     public void queryDB() {
-        entries.clear();
-        final Connector con = new Connector();
-
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
+        final int currentLimit = limit.get();
+        final List<TopXLine> loaded = new ArrayList<>(currentLimit);
+        try (Connector con = new Connector();
+             ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
             statement.setString(1, category);
-            statement.setInt(2, limit);
+            statement.setInt(2, currentLimit);
         })) {
             while (resultSet.next()) {
-                final String playerName = Bukkit.getOfflinePlayer(UUID.fromString(resultSet.getString("playerID"))).getName();
-                entries.add(new TopXLine(playerName, resultSet.getLong("count")));
+                final String playerName = nameResolver.apply(UUID.fromString(resultSet.getString("playerID")));
+                loaded.add(new TopXLine(playerName, resultSet.getLong("count")));
             }
         } catch (final SQLException e) {
-            log.error("There was an SQL exception while querying the top " + limit, e);
+            log.error("There was an SQL exception while querying the top " + currentLimit, e);
+            return;
         }
+        entries = Collections.unmodifiableList(loaded);
     }
 
     /**
@@ -0,0 +1,184 @@
+package org.betonquest.betonquest.compatibility.holograms.lines;
+
+import org.betonquest.betonquest.api.PlayerUpdatePointEvent;
+import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes the rankings shown by {@link TopLine}s asynchronously and shares them between all lines with the same
+ * category and order.
+ * <p>
+ * Rankings whose category changed are refreshed every {@link #DIRTY_CHECK_INTERVAL} ticks, all rankings are
+ * refreshed at the given full refresh interval to also catch changes made by other servers.
+ * Player names are cached, so they are not looked up again for every refresh.
+ */
+public class TopXService implements Listener {
+    /**
+     * The interval in ticks in which rankings with changed points are refreshed.
+     */
+    private static final long DIRTY_CHECK_INTERVAL = 20;
+
+    /**
+     * Logger factory to create the loggers of the rankings.
+     */
+    private final BetonQuestLoggerFactory loggerFactory;
+
+    /**
+     * The shared rankings by category and order.
+     */
+    private final Map<RankingKey, TopXObject> rankings = new ConcurrentHashMap<>();
+
+    /**
+     * The known player names by UUID.
+     */
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a refresh is currently running.
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * The task refreshing the rankings.
+     */
+    @Nullable
+    private BukkitTask task;
+
+    /**
+     * The ticks since all rankings were refreshed.
+     */
+    private long ticksSinceFullRefresh;
+
+    /**
+     * Creates a new service without any ranking.
+     *
+     * @param loggerFactory logger factory to use
+     */
+    public TopXService(final BetonQuestLoggerFactory loggerFactory) {
+        this.loggerFactory = loggerFactory;
+    }
+
+    /**
+     * Gets the ranking for the category and order, creating it if no line used it yet.
+     * A new ranking, or one that has to hold more lines now, is empty or outdated until the next asynchronous
+     * refresh loads it, so the database is never queried on the calling thread.
+     *
+     * @param category  name of point as <code>package.name</code>
+     * @param orderType direction of order
+     * @param limit     number of lines the caller needs
+     * @return the shared ranking
+     */
+    public TopXObject getRanking(final String category, final TopXObject.OrderType orderType, final int limit) {
+        final TopXObject ranking = rankings.computeIfAbsent(new RankingKey(category, orderType), key ->
+                new TopXObject(loggerFactory.create(TopXObject.class), limit, category, orderType, this::getName));
+        ranking.requireLimit(limit);
+        return ranking;
+    }
+
+    /**
+     * Starts refreshing the rankings asynchronously.
+     *
+     * @param plugin              the plugin to schedule the task for
+     * @param fullRefreshInterval the interval in ticks in which all rankings are refreshed
+     */
+    public void start(final Plugin plugin, final long fullRefreshInterval) {
+        stop();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        ticksSinceFullRefresh = fullRefreshInterval;
+        task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> refresh(fullRefreshInterval),
+                0, DIRTY_CHECK_INTERVAL);
+    }
+
+    /**
+     * Removes all rankings, so the lines of reloaded holograms create new ones.
+     */
+    public void clear() {
+        rankings.clear();
+    }
+
+    /**
+     * Stops refreshing and removes all rankings.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        HandlerList.unregisterAll(this);
+        clear();
+    }
+
+    /**
+     * Marks the rankings of the category as outdated.
+     *
+     * @param event the point update event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPointUpdate(final PlayerUpdatePointEvent event) {
+        for (final TopXObject.OrderType orderType : TopXObject.OrderType.values()) {
+            final TopXObject ranking = rankings.get(new RankingKey(event.getCategory(), orderType));
+            if (ranking != null) {
+                ranking.markDirty();
+            }
+        }
+    }
+
+    /**
+     * Updates the cached name of a joining player.
+     *
+     * @param event the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        names.put(event.getPlayer().getUniqueId(), event.getPlayer().getName());
+    }
+
+    private String getName(final UUID uuid) {
+        return names.computeIfAbsent(uuid, key -> {
+            final String name = Bukkit.getOfflinePlayer(key).getName();
+            return name == null ? key.toString() : name;
+        });
+    }
+
+    private void refresh(final long fullRefreshInterval) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ticksSinceFullRefresh += DIRTY_CHECK_INTERVAL;
+            final boolean full = ticksSinceFullRefresh >= fullRefreshInterval;
+            if (full) {
+                ticksSinceFullRefresh = 0;
+            }
+            for (final TopXObject ranking : rankings.values()) {
+                if (ranking.pollDirty() || full) {
+                    ranking.queryDB();
+                }
+            }
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Identifies a shared ranking.
+     *
+     * @param category  name of point as <code>package.name</code>
+     * @param orderType direction of order
+     */
+    private record RankingKey(String category, TopXObject.OrderType orderType) {
+    }
+}
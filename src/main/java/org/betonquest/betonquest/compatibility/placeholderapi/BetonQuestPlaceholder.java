@@ -7,19 +7,73 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
 @SuppressWarnings("PMD.CommentRequired")
 @SuppressFBWarnings("HE_INHERITS_EQUALS_USE_HASHCODE")
-public class BetonQuestPlaceholder extends PlaceholderExpansion {
+public class BetonQuestPlaceholder extends PlaceholderExpansion implements Listener {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
     private final BetonQuestLogger log;
 
-    public BetonQuestPlaceholder(final BetonQuestLogger log) {
+    /**
+     * The cache of resolved placeholders.
+     */
+    private final PlaceholderCache cache;
+
+    /**
+     * The amount of requests since the metrics were last logged.
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * The amount of requests answered from the cache since the metrics were last logged.
+     */
+    private final LongAdder cacheHits = new LongAdder();
+
+    /**
+     * The time spent resolving placeholders that were not cached in nanoseconds.
+     */
+    private final LongAdder resolveNanos = new LongAdder();
+
+    public BetonQuestPlaceholder(final BetonQuestLogger log, final PlaceholderCache cache) {
         super();
         this.log = log;
+        this.cache = cache;
+    }
+
+    /**
+     * Removes the cached placeholders of a player who left.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        cache.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Logs the hit rate of the cache and the average resolution time to the debug log and resets them.
+     */
+    public void logMetrics() {
+        final long requestCount = requests.sumThenReset();
+        final long hitCount = cacheHits.sumThenReset();
+        final long nanos = resolveNanos.sumThenReset();
+        if (requestCount == 0) {
+            return;
+        }
+        final long resolved = requestCount - hitCount;
+        log.debug("PlaceholderAPI requests: %d, cache hits: %d (%.1f%%), average resolution time: %.1f microseconds".formatted(
+                requestCount, hitCount, hitCount * 100.0 / requestCount,
+                resolved == 0 ? 0.0 : nanos / 1000.0 / resolved));
     }
 
     /**
@@ -91,7 +145,18 @@ public class BetonQuestPlaceholder extends PlaceholderExpansion {
             pack = identifier.substring(0, index);
             placeholderIdentifier = identifier.substring(index + 1);
         }
+        requests.increment();
+        final UUID owner = player == null ? PlaceholderCache.NO_PLAYER : player.getUniqueId();
+        final String cached = cache.get(owner, identifier);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        final long start = System.nanoTime();
         final OnlineProfile onlineProfile = player == null ? null : PlayerConverter.getID(player);
-        return BetonQuest.getInstance().getVariableValue(pack, '%' + placeholderIdentifier + '%', onlineProfile);
+        final String value = BetonQuest.getInstance().getVariableValue(pack, '%' + placeholderIdentifier + '%', onlineProfile);
+        resolveNanos.add(System.nanoTime() - start);
+        cache.put(owner, identifier, value);
+        return value;
     }
 }
@@ -2,30 +2,54 @@ package org.betonquest.betonquest.compatibility.placeholderapi;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.compatibility.Integrator;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.InstantSource;
 
 @SuppressWarnings("PMD.CommentRequired")
 public class PlaceholderAPIIntegrator implements Integrator {
 
     private final BetonQuest plugin;
 
+    private final PlaceholderCache cache;
+
+    @Nullable
+    private BetonQuestPlaceholder placeholder;
+
     public PlaceholderAPIIntegrator() {
         plugin = BetonQuest.getInstance();
+        cache = new PlaceholderCache(InstantSource.system());
     }
 
     @Override
     public void hook() {
         plugin.registerVariable("ph", PlaceholderVariable.class);
-        new BetonQuestPlaceholder(plugin.getLoggerFactory().create(BetonQuestPlaceholder.class, "PlaceholderAPI Integration")).register();
+        cache.setTimeToLive(getTimeToLive());
+        placeholder = new BetonQuestPlaceholder(plugin.getLoggerFactory().create(BetonQuestPlaceholder.class, "PlaceholderAPI Integration"), cache);
+        placeholder.register();
+        plugin.getServer().getPluginManager().registerEvents(placeholder, plugin);
     }
 
     @Override
     public void reload() {
-        // Empty
+        if (placeholder != null) {
+            placeholder.logMetrics();
+        }
+        cache.setTimeToLive(getTimeToLive());
     }
 
     @Override
     public void close() {
-        // Empty
+        if (placeholder != null) {
+            placeholder.logMetrics();
+            HandlerList.unregisterAll(placeholder);
+        }
+        cache.clear();
+    }
+
+    private long getTimeToLive() {
+        return plugin.getPluginConfig().getLong("placeholder_cache_time", 0);
     }
 
 }
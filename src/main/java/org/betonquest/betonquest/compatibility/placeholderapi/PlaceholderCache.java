@@ -0,0 +1,127 @@
+package org.betonquest.betonquest.compatibility.placeholderapi;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.InstantSource;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches resolved placeholders per player for a configurable time.
+ * <p>
+ * Scoreboard and tab list plugins request the same placeholders for every player every few ticks,
+ * so reusing a value for a short time saves most of the resolutions.
+ * <p>
+ * This class is thread safe.
+ */
+public class PlaceholderCache {
+    /**
+     * The owner of placeholders requested without a player.
+     */
+    public static final UUID NO_PLAYER = new UUID(0, 0);
+
+    /**
+     * The source of the current time.
+     */
+    private final InstantSource instantSource;
+
+    /**
+     * The cached values by owner and placeholder.
+     */
+    private final Map<UUID, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * How long values are cached in milliseconds.
+     */
+    private volatile long timeToLive;
+
+    /**
+     * Creates a new disabled cache.
+     *
+     * @param instantSource the source of the current time
+     */
+    public PlaceholderCache(final InstantSource instantSource) {
+        this.instantSource = instantSource;
+    }
+
+    /**
+     * Sets how long values are cached and removes all cached values.
+     *
+     * @param timeToLive the time in milliseconds, 0 or less disables the cache
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+        clear();
+    }
+
+    /**
+     * Checks if values are cached at all.
+     *
+     * @return true if the time to live is positive
+     */
+    public boolean isEnabled() {
+        return timeToLive > 0;
+    }
+
+    /**
+     * Gets a cached value that did not expire yet.
+     *
+     * @param owner      the UUID of the player or {@link #NO_PLAYER}
+     * @param identifier the requested placeholder
+     * @return the cached value or null if there is none
+     */
+    @Nullable
+    public String get(final UUID owner, final String identifier) {
+        final Map<String, Entry> ownerEntries = entries.get(owner);
+        if (ownerEntries == null) {
+            return null;
+        }
+        final Entry entry = ownerEntries.get(identifier);
+        if (entry == null || entry.expiresAt() <= instantSource.millis()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Caches a value if the cache is enabled.
+     *
+     * @param owner      the UUID of the player or {@link #NO_PLAYER}
+     * @param identifier the requested placeholder
+     * @param value      the resolved value
+     */
+    public void put(final UUID owner, final String identifier, final String value) {
+        final long currentTimeToLive = timeToLive;
+        if (currentTimeToLive <= 0) {
+            return;
+        }
+        entries.computeIfAbsent(owner, newOwner -> new ConcurrentHashMap<>())
+                .put(identifier, new Entry(value, instantSource.millis() + currentTimeToLive));
+    }
+
+    /**
+     * Removes all cached values of the owner.
+     *
+     * @param owner the UUID of the player
+     */
+    public void remove(final UUID owner) {
+        entries.remove(owner);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * A cached value.
+     *
+     * @param value     the resolved value
+     * @param expiresAt the time in milliseconds after which the value must be resolved again
+     */
+    private record Entry(String value, long expiresAt) {
+    }
+}
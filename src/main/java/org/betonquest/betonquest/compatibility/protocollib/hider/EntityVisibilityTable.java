@@ -0,0 +1,307 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Stores which entity IDs are on the visibility list of which observer.
+ * <p>
+ * The table is read by the packet listener on netty threads for every entity packet, so {@link #contains(int, int)}
+ * neither locks nor allocates. Each observer has its own open addressing set of entity IDs that is changed under
+ * the lock of that set, so changes for different observers do not block each other. The observers themselves
+ * change rarely and are stored in an immutable table that is replaced on every change.
+ * <p>
+ * This class is thread safe.
+ */
+public class EntityVisibilityTable {
+    /**
+     * The lock for replacing the observer table.
+     */
+    private final Object observersLock = new Object();
+
+    /**
+     * The current observer table.
+     */
+    private volatile Observers observers = Observers.EMPTY;
+
+    /**
+     * Creates a new empty table.
+     */
+    public EntityVisibilityTable() {
+    }
+
+    private static int mix(final int key) {
+        final int hash = key * 0x9E37_79B9;
+        return hash ^ hash >>> 16;
+    }
+
+    private static int capacityFor(final int entries) {
+        int capacity = 16;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Checks if the entity is on the visibility list of the observer.
+     *
+     * @param observer the entity ID of the observing player
+     * @param entity   the entity ID
+     * @return true if the entity is present for the observer
+     */
+    public boolean contains(final int observer, final int entity) {
+        final EntitySet entities = observers.get(observer);
+        return entities != null && entities.contains(entity);
+    }
+
+    /**
+     * Adds the entity to the visibility list of the observer.
+     *
+     * @param observer the entity ID of the observing player
+     * @param entity   the entity ID
+     * @return true if the entity was already present
+     */
+    public boolean add(final int observer, final int entity) {
+        EntitySet entities = observers.get(observer);
+        if (entities == null) {
+            synchronized (observersLock) {
+                entities = observers.get(observer);
+                if (entities == null) {
+                    entities = new EntitySet();
+                    observers = observers.with(observer, entities);
+                }
+            }
+        }
+        return entities.add(entity);
+    }
+
+    /**
+     * Removes the entity from the visibility list of the observer.
+     *
+     * @param observer the entity ID of the observing player
+     * @param entity   the entity ID
+     * @return true if the entity was present
+     */
+    public boolean remove(final int observer, final int entity) {
+        final EntitySet entities = observers.get(observer);
+        return entities != null && entities.remove(entity);
+    }
+
+    /**
+     * Removes the entity from the visibility lists of all observers.
+     *
+     * @param entity the entity ID
+     */
+    public void removeEntity(final int entity) {
+        for (final EntitySet entities : observers.values) {
+            if (entities != null) {
+                entities.remove(entity);
+            }
+        }
+    }
+
+    /**
+     * Removes the visibility list of the observer.
+     *
+     * @param observer the entity ID of the observing player
+     */
+    public void removeObserver(final int observer) {
+        synchronized (observersLock) {
+            if (observers.get(observer) != null) {
+                observers = observers.without(observer);
+            }
+        }
+    }
+
+    /**
+     * An open addressing map from observer IDs to their entity sets that is not changed after it was published.
+     */
+    private static final class Observers {
+        /**
+         * The table without any observer.
+         */
+        private static final Observers EMPTY = new Observers(0);
+
+        /**
+         * The observer IDs.
+         */
+        private final int[] keys;
+
+        /**
+         * The entity sets, null marks an empty slot.
+         */
+        private final EntitySet[] values;
+
+        /**
+         * The number of observers.
+         */
+        private final int size;
+
+        private Observers(final int size) {
+            final int capacity = capacityFor(size);
+            this.keys = new int[capacity];
+            this.values = new EntitySet[capacity];
+            this.size = size;
+        }
+
+        @Nullable
+        private EntitySet get(final int observer) {
+            final int mask = keys.length - 1;
+            for (int index = mix(observer) & mask; ; index = index + 1 & mask) {
+                final EntitySet entities = values[index];
+                if (entities == null || keys[index] == observer) {
+                    return entities;
+                }
+            }
+        }
+
+        private Observers with(final int observer, final EntitySet entities) {
+            final Observers copy = copy(size + 1, observer);
+            copy.insert(observer, entities);
+            return copy;
+        }
+
+        private Observers without(final int observer) {
+            return copy(size - 1, observer);
+        }
+
+        private Observers copy(final int newSize, final int skipped) {
+            final Observers copy = new Observers(newSize);
+            for (int index = 0; index < keys.length; index++) {
+                if (values[index] != null && keys[index] != skipped) {
+                    copy.insert(keys[index], values[index]);
+                }
+            }
+            return copy;
+        }
+
+        private void insert(final int observer, final EntitySet entities) {
+            final int mask = keys.length - 1;
+            int index = mix(observer) & mask;
+            while (values[index] != null) {
+                index = index + 1 & mask;
+            }
+            keys[index] = observer;
+            values[index] = entities;
+        }
+    }
+
+    /**
+     * An open addressing set of entity IDs with lock-free reads.
+     * <p>
+     * The slots hold {@link #EMPTY}, {@link #REMOVED} or an encoded entity ID that has bit 32 set,
+     * so every int including 0 can be stored. Writers hold the lock of the set and change single slots atomically,
+     * a set that gets too full is rehashed into a new array that is published as a whole.
+     */
+    private static final class EntitySet {
+        /**
+         * A slot that was never used.
+         */
+        private static final long EMPTY = 0;
+
+        /**
+         * A slot whose entity was removed.
+         */
+        private static final long REMOVED = 1;
+
+        /**
+         * The slots.
+         */
+        private volatile AtomicLongArray slots = new AtomicLongArray(capacityFor(0));
+
+        /**
+         * The number of slots that are not {@link #EMPTY}.
+         */
+        private int usedSlots;
+
+        /**
+         * The number of stored entities.
+         */
+        private int size;
+
+        private static long encode(final int entity) {
+            return 1L << 32 | entity & 0xFFFF_FFFFL;
+        }
+
+        private boolean contains(final int entity) {
+            final AtomicLongArray current = slots;
+            final long key = encode(entity);
+            final int mask = current.length() - 1;
+            int index = mix(entity) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final long slot = current.get(index);
+                if (slot == key) {
+                    return true;
+                }
+                if (slot == EMPTY) {
+                    return false;
+                }
+                index = index + 1 & mask;
+            }
+            return false;
+        }
+
+        private synchronized boolean add(final int entity) {
+            if (contains(entity)) {
+                return true;
+            }
+            if ((usedSlots + 1) * 2 > slots.length()) {
+                rehash(capacityFor(size + 1));
+            }
+            final AtomicLongArray current = slots;
+            final int mask = current.length() - 1;
+            int index = mix(entity) & mask;
+            long slot = current.get(index);
+            while (slot != EMPTY && slot != REMOVED) {
+                index = index + 1 & mask;
+                slot = current.get(index);
+            }
+            if (slot == EMPTY) {
+                usedSlots++;
+            }
+            current.set(index, encode(entity));
+            size++;
+            return false;
+        }
+
+        private synchronized boolean remove(final int entity) {
+            final AtomicLongArray current = slots;
+            final long key = encode(entity);
+            final int mask = current.length() - 1;
+            int index = mix(entity) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final long slot = current.get(index);
+                if (slot == key) {
+                    current.set(index, REMOVED);
+                    size--;
+                    return true;
+                }
+                if (slot == EMPTY) {
+                    return false;
+                }
+                index = index + 1 & mask;
+            }
+            return false;
+        }
+
+        private void rehash(final int capacity) {
+            final AtomicLongArray current = slots;
+            final AtomicLongArray rehashed = new AtomicLongArray(capacity);
+            final int mask = capacity - 1;
+            for (int oldIndex = 0; oldIndex < current.length(); oldIndex++) {
+                final long slot = current.get(oldIndex);
+                if (slot != EMPTY && slot != REMOVED) {
+                    int index = mix((int) slot) & mask;
+                    while (rehashed.get(index) != EMPTY) {
+                        index = index + 1 & mask;
+                    }
+                    rehashed.set(index, slot);
+                }
+            }
+            usedSlots = size;
+            slots = rehashed;
+        }
+    }
+}
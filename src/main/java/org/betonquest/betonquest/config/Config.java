@@ -28,6 +28,7 @@ import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles the configuration of the plugin.
@@ -41,6 +42,11 @@ public final class Config {
 
     private static final Set<String> LANGUAGES = new LinkedHashSet<>();
 
+    /**
+     * Messages without arguments, compiled once per package, language, message and prefix.
+     */
+    private static final Map<MessageKey, MessageTemplate> MESSAGE_CACHE = new ConcurrentHashMap<>();
+
     private static QuestManager questManager;
 
     private static BetonQuest plugin;
@@ -64,6 +70,7 @@ public final class Config {
     public static void setup(final BetonQuest plugin, final ConfigurationFile config) {
         Config.plugin = plugin;
         LANGUAGES.clear();
+        clearMessageCache();
         final ConfigAccessorFactory configAccessorFactory = plugin.getConfigAccessorFactory();
         final ConfigurationFileFactory configurationFileFactory = plugin.getConfigurationFileFactory();
 
@@ -88,6 +95,13 @@ public final class Config {
         questManager = new QuestManager(loggerFactory, loggerFactory.create(QuestManager.class), configAccessorFactory, root);
     }
 
+    /**
+     * Removes all compiled messages, so they are compiled again with the reloaded messages and variables.
+     */
+    public static void clearMessageCache() {
+        MESSAGE_CACHE.clear();
+    }
+
     /**
      * Retrieves the message from the configuration in specified language and
      * replaces the variables
@@ -290,9 +304,27 @@ public final class Config {
                                       @Nullable final String prefixName, @Nullable final String... prefixVariables) {
         final PlayerData playerData = plugin.getPlayerData(onlineProfile);
         final String language = playerData.getLanguage();
+        final MessageTemplate template;
+        if (hasNoArguments(variables) && hasNoArguments(prefixVariables)) {
+            template = MESSAGE_CACHE.computeIfAbsent(new MessageKey(pack, language, messageName, prefixName),
+                    key -> compileMessage(pack, language, messageName, null, prefixName, null));
+        } else {
+            template = compileMessage(pack, language, messageName, variables, prefixName, prefixVariables);
+        }
+        return template.resolve(onlineProfile);
+    }
+
+    private static boolean hasNoArguments(@Nullable final String... variables) {
+        return variables == null || variables.length == 0;
+    }
+
+    private static MessageTemplate compileMessage(@Nullable final QuestPackage pack, final String language,
+                                                  final String messageName, @Nullable final String[] variables,
+                                                  @Nullable final String prefixName,
+                                                  @Nullable final String... prefixVariables) {
         String message = getMessage(language, messageName, variables);
         if (message == null || message.isEmpty()) {
-            return null;
+            return new MessageTemplate(null, null);
         }
         if (prefixName != null) {
             final String prefix = getMessage(language, prefixName, prefixVariables);
@@ -300,14 +332,14 @@ public final class Config {
                 message = prefix + message;
             }
         }
-        if (pack != null) {
+        if (pack != null && message.indexOf('%') != -1) {
             try {
-                message = new VariableString(pack, message).getString(onlineProfile);
+                return new MessageTemplate(message, new VariableString(plugin.getVariableProcessor(), pack, message));
             } catch (final InstructionParseException e) {
                 LOG.warn("Could not parse message: " + message, e);
             }
         }
-        return message;
+        return new MessageTemplate(message, null);
     }
 
     /**
@@ -334,4 +366,36 @@ public final class Config {
     public static Set<String> getLanguages() {
         return LANGUAGES;
     }
+
+    /**
+     * Identifies a compiled message.
+     *
+     * @param pack        the package resolving the variables
+     * @param language    the language of the message
+     * @param messageName the name of the message
+     * @param prefixName  the name of the prefix
+     */
+    private record MessageKey(@Nullable QuestPackage pack, String language, String messageName,
+                              @Nullable String prefixName) {
+    }
+
+    /**
+     * A message with its prefix, ready to be sent.
+     *
+     * @param text      the text of the message or null if it does not exist
+     * @param variables the compiled variables of the message or null if it contains none
+     */
+    private record MessageTemplate(@Nullable String text, @Nullable VariableString variables) {
+        @Nullable
+        private String resolve(final OnlineProfile onlineProfile) {
+            if (variables == null) {
+                return text;
+            }
+            try {
+                return variables.getValue(onlineProfile);
+            } catch (final QuestRuntimeException e) {
+                return "";
+            }
+        }
+    }
 }
@@ -14,7 +14,6 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ID;
-import org.betonquest.betonquest.id.ItemID;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.item.QuestItem;
@@ -246,8 +245,7 @@ public class QuestCanceler {
         ItemStack stack = new ItemStack(Material.BONE);
         if (item != null) {
             try {
-                final ItemID itemID = new ItemID(pack, item);
-                stack = new QuestItem(itemID).generate(1);
+                stack = QuestItem.get(pack, item).generate(1);
             } catch (final InstructionParseException | ObjectNotFoundException e) {
                 log.warn("Could not load cancel button: " + e.getMessage(), e);
             }
@@ -7,11 +7,16 @@ import org.betonquest.betonquest.config.Config;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Saves the data to the database asynchronously.
+ * <p>
+ * Records are drained from the queue in batches of up to {@code mysql.batch_size} records. If the queue holds less
+ * records, the saver waits up to {@code mysql.batch_linger} milliseconds for more records before writing the batch.
+ * Each batch is written in a single transaction. Writes to the same row that are still queued are coalesced, so only
+ * the latest state is written.
  */
 @SuppressWarnings({"PMD.DoNotUseThreads", "PMD.AvoidSynchronizedStatement"})
 @SuppressFBWarnings("IS2_INCONSISTENT_SYNC")
@@ -30,13 +35,23 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     /**
      * The queue of records to be saved to the database.
      */
-    private final Queue<Record> queue;
+    private final CoalescingRecordQueue queue;
 
     /**
      * The amount of time, until the AsyncSaver tries to reconnect if there was an connection los
      */
     private final long reconnectInterval;
 
+    /**
+     * The maximum amount of records written in one transaction.
+     */
+    private final int batchSize;
+
+    /**
+     * The maximum time in milliseconds to wait for more records, if a batch is not full.
+     */
+    private final long batchLinger;
+
     /**
      * Whether the saver is currently running or not.
      */
@@ -50,10 +65,12 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     public AsyncSaver(final BetonQuestLogger log) {
         super();
         this.log = log;
-        this.con = new Connector();
-        this.queue = new ConcurrentLinkedQueue<>();
+        this.con = new Connector(Connector.Lane.WRITE);
+        this.queue = new CoalescingRecordQueue();
         this.running = true;
         this.reconnectInterval = Long.parseLong(Config.getConfigString("mysql.reconnect_interval"));
+        this.batchSize = Math.max(1, BetonQuest.getInstance().getPluginConfig().getInt("mysql.batch_size", 100));
+        this.batchLinger = Math.max(0, BetonQuest.getInstance().getPluginConfig().getLong("mysql.batch_linger", 50));
         Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
     }
 
@@ -61,6 +78,7 @@ public class AsyncSaver extends Thread implements Listener, Saver {
     @SuppressFBWarnings("UW_UNCOND_WAIT")
     @SuppressWarnings("PMD.CognitiveComplexity")
     public void run() {
+        final List<Record> batch = new ArrayList<>(batchSize);
         boolean active = false;
         while (true) {
             while (queue.isEmpty()) {
@@ -87,8 +105,49 @@ public class AsyncSaver extends Thread implements Listener, Saver {
                 }
                 active = true;
             }
+            fillBatch(batch);
+            if (batch.size() == 1) {
+                final Record rec = batch.get(0);
+                con.updateSQL(rec.type(), rec.args());
+            } else {
+                con.updateSQL(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Fills the batch with records from the queue. If the batch is not full, it waits up to the batch linger for
+     * more records to arrive.
+     *
+     * @param batch the batch to fill
+     */
+    private void fillBatch(final List<Record> batch) {
+        drainQueue(batch);
+        final long deadline = System.currentTimeMillis() + batchLinger;
+        long remaining = batchLinger;
+        while (batch.size() < batchSize && remaining > 0 && running) {
+            synchronized (this) {
+                try {
+                    if (queue.isEmpty()) {
+                        wait(remaining);
+                    }
+                } catch (final InterruptedException e) {
+                    log.warn("AsyncSaver got interrupted!");
+                }
+            }
+            drainQueue(batch);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+
+    private void drainQueue(final List<Record> batch) {
+        while (batch.size() < batchSize) {
             final Record rec = queue.poll();
-            con.updateSQL(rec.type(), rec.args());
+            if (rec == null) {
+                return;
+            }
+            batch.add(rec);
         }
     }
 
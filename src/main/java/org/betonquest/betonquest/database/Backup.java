@@ -47,7 +47,7 @@ public final class Backup {
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public static boolean backupDatabase(final ConfigAccessorFactory configAccessorFactory, final File databaseBackupFile) {
         final BetonQuest instance = BetonQuest.getInstance();
-        try {
+        try (Connector database = new Connector()) {
             if (!databaseBackupFile.createNewFile()) {
                 LOG.warn("Could not create the backup file!");
                 return false;
@@ -59,8 +59,6 @@ public final class Backup {
             final Map<String, ResultSet> map = new HashMap<>();
             final String[] tables = {"objectives", "tags", "points", "journals", "player", "backpack", "global_points",
                     "global_tags", "migration", "player_profile", "profile"};
-            // open database connection
-            final Connector database = new Connector();
             // load resultsets into the map
             for (final String table : tables) {
                 LOG.debug("Loading " + table);
@@ -121,7 +119,7 @@ public final class Backup {
      *
      * @param configAccessorFactory the factory that will be used to create {@link ConfigAccessor}s
      */
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.NcssCount", "PMD.AvoidDuplicateLiterals"})
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.NcssCount", "PMD.AvoidDuplicateLiterals", "PMD.CloseResource"})
     @SuppressFBWarnings("RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
     public static void loadDatabaseFromBackup(final ConfigAccessorFactory configAccessorFactory) {
         final BetonQuest instance = BetonQuest.getInstance();
@@ -163,7 +161,7 @@ public final class Backup {
         // in a different way...)
         database.createTables();
         // drop all tables
-        final Connector con = new Connector();
+        final Connector con = new Connector(Connector.Lane.WRITE);
         con.updateSQL(UpdateType.DROP_OBJECTIVES);
         con.updateSQL(UpdateType.DROP_TAGS);
         con.updateSQL(UpdateType.DROP_POINTS);
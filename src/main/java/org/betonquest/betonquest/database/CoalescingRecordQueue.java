@@ -0,0 +1,200 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A queue of {@link Record}s that drops superseded writes before they reach the database.
+ * <p>
+ * Records that write a single row, identified by its table, profile and key, are coalesced: if a record for the same
+ * row is still waiting in the queue, the new record replaces it at its position. Records that affect more than one
+ * row, like {@link UpdateType#DELETE_OBJECTIVES}, act as a barrier: writes queued before them are never replaced by
+ * writes queued after them, so the order of the database operations stays intact.
+ * <p>
+ * This class is thread safe.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+final class CoalescingRecordQueue {
+    /**
+     * The queued slots in insertion order.
+     */
+    private final Deque<Slot> slots = new ArrayDeque<>();
+
+    /**
+     * The slots that can still be replaced, by the row they write.
+     */
+    private final Map<WriteKey, Slot> pending = new HashMap<>();
+
+    /**
+     * The amount of records that were dropped, because a later record superseded them.
+     */
+    private long coalesced;
+
+    /**
+     * Creates a new empty queue.
+     */
+    CoalescingRecordQueue() {
+    }
+
+    /**
+     * Adds a record to the queue, replacing a queued record for the same row if possible.
+     * Upserts and removals define the whole state of a row, so they replace any queued record for it. A plain insert
+     * after a queued insert or upsert would fail, so it is dropped instead.
+     *
+     * @param rec the record to add
+     */
+    public void add(final Record rec) {
+        synchronized (slots) {
+            final WriteKey key = WriteKey.of(rec);
+            if (key == null) {
+                pending.clear();
+                slots.add(new Slot(null, rec));
+                return;
+            }
+            final Slot slot = pending.get(key);
+            if (slot != null) {
+                if (WriteKey.kind(rec.type()) != WriteKind.INSERT) {
+                    slot.record = rec;
+                    coalesced++;
+                    return;
+                }
+                if (WriteKey.kind(slot.record.type()) != WriteKind.REMOVE) {
+                    coalesced++;
+                    return;
+                }
+            }
+            final Slot newSlot = new Slot(key, rec);
+            slots.add(newSlot);
+            pending.put(key, newSlot);
+        }
+    }
+
+    /**
+     * Retrieves and removes the oldest record of the queue.
+     *
+     * @return the oldest record or null if the queue is empty
+     */
+    @Nullable
+    public Record poll() {
+        synchronized (slots) {
+            final Slot slot = slots.poll();
+            if (slot == null) {
+                return null;
+            }
+            if (slot.key != null) {
+                pending.remove(slot.key, slot);
+            }
+            return slot.record;
+        }
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return true if there are no records queued
+     */
+    public boolean isEmpty() {
+        synchronized (slots) {
+            return slots.isEmpty();
+        }
+    }
+
+    /**
+     * Gets the amount of records that were dropped, because a later record for the same row replaced them.
+     *
+     * @return the amount of coalesced records
+     */
+    public long getCoalescedCount() {
+        synchronized (slots) {
+            return coalesced;
+        }
+    }
+
+    /**
+     * The kind of write a coalescable record performs on its row.
+     */
+    private enum WriteKind {
+        /**
+         * Inserts the row, fails if it exists.
+         */
+        INSERT,
+        /**
+         * Inserts or replaces the row.
+         */
+        UPSERT,
+        /**
+         * Removes the row.
+         */
+        REMOVE
+    }
+
+    /**
+     * A queued record and the row it writes.
+     */
+    private static final class Slot {
+        /**
+         * The row that is written or null if the record is not coalescable.
+         */
+        @Nullable
+        private final WriteKey key;
+
+        /**
+         * The latest record for the row.
+         */
+        private Record record;
+
+        private Slot(@Nullable final WriteKey key, final Record record) {
+            this.key = key;
+            this.record = record;
+        }
+    }
+
+    /**
+     * Identifies a single row in the database.
+     *
+     * @param table     the table of the row
+     * @param profileID the profile the row belongs to or an empty string for global data
+     * @param key       the key of the row within the profile
+     */
+    private record WriteKey(String table, String profileID, String key) {
+        /**
+         * Gets the row written by the record.
+         *
+         * @param rec the record to get the row for
+         * @return the row or null if the record is not coalescable
+         */
+        @Nullable
+        private static WriteKey of(final Record rec) {
+            final String[] args = rec.args();
+            return switch (rec.type()) {
+                case ADD_OBJECTIVES, UPSERT_OBJECTIVES, REMOVE_OBJECTIVES -> new WriteKey("objectives", args[0], args[1]);
+                case ADD_TAGS, REMOVE_TAGS -> new WriteKey("tags", args[0], args[1]);
+                case ADD_POINTS, UPSERT_POINTS, REMOVE_POINTS -> new WriteKey("points", args[0], args[1]);
+                case ADD_GLOBAL_TAGS, REMOVE_GLOBAL_TAGS -> new WriteKey("global_tags", "", args[0]);
+                case ADD_GLOBAL_POINTS, UPSERT_GLOBAL_POINTS, REMOVE_GLOBAL_POINTS ->
+                        new WriteKey("global_points", "", args[0]);
+                default -> null;
+            };
+        }
+
+        /**
+         * Gets the kind of write of a coalescable update type.
+         *
+         * @param type the update type
+         * @return the kind of write
+         */
+        private static WriteKind kind(final UpdateType type) {
+            return switch (type) {
+                case UPSERT_OBJECTIVES, UPSERT_POINTS, UPSERT_GLOBAL_POINTS -> WriteKind.UPSERT;
+                case REMOVE_OBJECTIVES, REMOVE_TAGS, REMOVE_POINTS, REMOVE_GLOBAL_TAGS, REMOVE_GLOBAL_POINTS ->
+                        WriteKind.REMOVE;
+                default -> WriteKind.INSERT;
+            };
+        }
+    }
+}
@@ -9,12 +9,19 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * A connector for the {@link Lane#READ read lane} borrows its connection from the database and has to be closed after
+ * use, so the connection can be reused. A connector for the {@link Lane#WRITE write lane} uses the shared connection of
+ * the database.
  */
-public class Connector {
+public class Connector implements AutoCloseable {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -30,6 +37,11 @@ public class Connector {
      */
     private final Database database;
 
+    /**
+     * The lane this connector uses.
+     */
+    private final Lane lane;
+
     /**
      * Permanently active connection to the database.
      */
@@ -37,14 +49,33 @@ public class Connector {
     private Connection connection;
 
     /**
-     * Opens a new connection to the database.
+     * Prepared statements for batched updates, reused as long as the connection is alive.
+     */
+    private final Map<UpdateType, PreparedStatement> batchStatements = new EnumMap<>(UpdateType.class);
+
+    /**
+     * Opens a new connection to the database for reading.
      */
     public Connector() {
+        this(Lane.READ);
+    }
+
+    /**
+     * Opens a new connection to the database.
+     *
+     * @param lane the lane to use
+     */
+    public Connector(final Lane lane) {
         final BetonQuest plugin = BetonQuest.getInstance();
         this.log = plugin.getLoggerFactory().create(Connector.class);
         prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         database = plugin.getDB();
-        connection = database.getConnection();
+        this.lane = lane;
+        connection = acquireConnection();
+    }
+
+    private Connection acquireConnection() {
+        return lane == Lane.READ ? database.acquireReadConnection() : database.getConnection();
     }
 
     /**
@@ -52,22 +83,43 @@ public class Connector {
      *
      * @return true if the connection is refreshed successfully
      */
-    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
     public final boolean refresh() {
         if (connection == null) {
-            connection = database.getConnection();
-        } else {
-            try {
-                connection.prepareStatement("SELECT 1").executeQuery().close();
-            } catch (final SQLException e) {
-                log.warn("Database connection was lost, reconnecting...", e);
+            connection = acquireConnection();
+        } else if (!isValid(connection)) {
+            log.warn("Database connection was lost, reconnecting...");
+            closeBatchStatements();
+            if (lane == Lane.READ) {
+                database.releaseReadConnection(connection);
+            } else {
                 database.closeConnection();
-                connection = database.getConnection();
             }
+            connection = acquireConnection();
         }
         return connection != null;
     }
 
+    private boolean isValid(final Connection connection) {
+        try {
+            return connection.isValid(Database.VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Releases the connection of this connector. A connector for the read lane gives its connection back to the
+     * database, a connector for the write lane keeps the shared connection open.
+     */
+    @Override
+    public void close() {
+        closeBatchStatements();
+        if (connection != null && lane == Lane.READ) {
+            database.releaseReadConnection(connection);
+            connection = null;
+        }
+    }
+
     /**
      * Queries the database with the given type and arguments.
      *
@@ -111,7 +163,7 @@ public class Connector {
      * @param args arguments
      */
     public void updateSQL(final UpdateType type, final String... args) {
-        final String sql = type.createSql(prefix);
+        final String sql = type.createSql(prefix, database.getDialect());
         Objects.requireNonNull(connection);
         try (PreparedStatement statement = connection.prepareStatement(sql)) {
             for (int i = 0; i < args.length; i++) {
@@ -123,6 +175,94 @@ public class Connector {
         }
     }
 
+    /**
+     * Updates the database with the given records in a single transaction.
+     * Consecutive records with the same {@link UpdateType} are sent as one JDBC batch, so the order of the records is
+     * preserved. If the transaction fails, it is rolled back and the records are executed one by one instead.
+     *
+     * @param records records to write
+     */
+    public void updateSQL(final List<Saver.Record> records) {
+        Objects.requireNonNull(connection);
+        try {
+            connection.setAutoCommit(false);
+            try {
+                executeBatches(connection, records);
+                connection.commit();
+            } catch (final SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (final SQLException e) {
+            log.warn("Batched database update failed, falling back to single updates: " + e.getMessage(), e);
+            closeBatchStatements();
+            for (final Saver.Record rec : records) {
+                updateSQL(rec.type(), rec.args());
+            }
+        }
+    }
+
+    private void executeBatches(final Connection connection, final List<Saver.Record> records) throws SQLException {
+        PreparedStatement statement = null;
+        UpdateType currentType = null;
+        for (final Saver.Record rec : records) {
+            if (rec.type() != currentType) {
+                if (statement != null) {
+                    statement.executeBatch();
+                }
+                currentType = rec.type();
+                statement = getBatchStatement(connection, currentType);
+            }
+            final String[] args = rec.args();
+            for (int i = 0; i < args.length; i++) {
+                statement.setString(i + 1, args[i]);
+            }
+            statement.addBatch();
+        }
+        if (statement != null) {
+            statement.executeBatch();
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
+    private PreparedStatement getBatchStatement(final Connection connection, final UpdateType type) throws SQLException {
+        final PreparedStatement cached = batchStatements.get(type);
+        if (cached != null && !cached.isClosed()) {
+            return cached;
+        }
+        final PreparedStatement statement = connection.prepareStatement(type.createSql(prefix, database.getDialect()));
+        batchStatements.put(type, statement);
+        return statement;
+    }
+
+    private void closeBatchStatements() {
+        for (final PreparedStatement statement : batchStatements.values()) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                log.debug("Could not close cached statement: " + e.getMessage(), e);
+            }
+        }
+        batchStatements.clear();
+    }
+
+    /**
+     * The lanes a connector can use to access the database.
+     */
+    public enum Lane {
+        /**
+         * Reads from the database with a borrowed connection.
+         */
+        READ,
+        /**
+         * Writes to the database with the shared connection.
+         */
+        WRITE
+    }
+
     /**
      * Resolver for variables in prepared statements.
      */
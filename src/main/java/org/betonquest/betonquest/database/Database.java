@@ -6,8 +6,6 @@ import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Set;
 import java.util.SortedMap;
@@ -18,6 +16,11 @@ import java.util.SortedMap;
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
 public abstract class Database {
+    /**
+     * The time in seconds to wait for the database to validate a connection.
+     */
+    protected static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
     protected final Plugin plugin;
 
     protected final String prefix;
@@ -53,12 +56,9 @@ public abstract class Database {
         return con;
     }
 
-    private boolean isConnectionBroken(final Connection connection) throws SQLException {
+    private boolean isConnectionBroken(final Connection connection) {
         try {
-            try (PreparedStatement stmnt = connection.prepareStatement("SELECT 1");
-                 ResultSet result = stmnt.executeQuery()) {
-                return !result.next();
-            }
+            return !connection.isValid(VALIDATION_TIMEOUT_SECONDS);
         } catch (final SQLException e) {
             return true;
         }
@@ -66,6 +66,43 @@ public abstract class Database {
 
     protected abstract Connection openConnection() throws SQLException;
 
+    /**
+     * Gets the SQL dialect spoken by this database.
+     *
+     * @return the SQL dialect
+     */
+    public abstract SqlDialect getDialect();
+
+    /**
+     * Acquires a connection for reading from the database. Databases without a connection pool return the shared
+     * connection from {@link #getConnection()}, so reads and writes use the same connection.
+     * <p>
+     * The connection has to be given back with {@link #releaseReadConnection(Connection)}.
+     *
+     * @return a connection for reading
+     */
+    public Connection acquireReadConnection() {
+        return getConnection();
+    }
+
+    /**
+     * Gives back a connection acquired by {@link #acquireReadConnection()}.
+     *
+     * @param connection the connection to give back
+     */
+    public void releaseReadConnection(final Connection connection) {
+        // the shared connection stays open
+    }
+
+    /**
+     * Gets the amount of reads that can run at the same time without waiting for each other.
+     *
+     * @return the amount of parallel reads, at least one
+     */
+    public int getReadParallelism() {
+        return 1;
+    }
+
     public void closeConnection() {
         if (con != null) {
             try {
@@ -77,6 +114,13 @@ public abstract class Database {
         con = null;
     }
 
+    /**
+     * Closes the shared connection and all other resources held by this database.
+     */
+    public void close() {
+        closeConnection();
+    }
+
     public final void createTables() {
         try {
             final SortedMap<MigrationKey, DatabaseUpdate> migrations = getMigrations();
@@ -1,18 +1,23 @@
 package org.betonquest.betonquest.database;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Point;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.database.Saver.Record;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an object storing all player-related data, which can load and save it.
  */
-@SuppressWarnings({"PMD.CommentRequired", "PMD.TooManyMethods"})
+@SuppressWarnings({"PMD.CommentRequired", "PMD.TooManyMethods", "PMD.AvoidSynchronizedStatement"})
 public class GlobalData implements TagData {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
@@ -21,9 +26,20 @@ public class GlobalData implements TagData {
 
     private final Saver saver;
 
-    private final List<String> globalTags = new ArrayList<>();
+    /**
+     * The global tags, interned so they share the strings of equal profile tags.
+     */
+    private final Set<String> globalTags = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The global points by their lower case category.
+     */
+    private final Map<String, Point> globalPoints = new ConcurrentHashMap<>();
 
-    private final List<Point> globalPoints = new ArrayList<>();
+    /**
+     * The lock for changing the global points together with their database records.
+     */
+    private final Object pointsLock = new Object();
 
     /**
      * Loads all global data from the database.
@@ -41,15 +57,20 @@ public class GlobalData implements TagData {
      * Loads all data for the player and puts it in appropriate lists.
      */
     public final void loadAllGlobalData() {
-        try {
-            final Connector con = new Connector();
+        try (Connector con = new Connector()) {
             try (ResultSet globalTags = con.querySQL(QueryType.LOAD_ALL_GLOBAL_TAGS);
                  ResultSet globalPoints = con.querySQL(QueryType.LOAD_ALL_GLOBAL_POINTS)) {
                 while (globalTags.next()) {
-                    this.globalTags.add(globalTags.getString("tag"));
+                    this.globalTags.add(globalTags.getString("tag").intern());
                 }
                 while (globalPoints.next()) {
-                    this.globalPoints.add(new Point(globalPoints.getString("category"), globalPoints.getInt("count")));
+                    final String category = globalPoints.getString("category");
+                    final Point previous = this.globalPoints.put(pointKey(category),
+                            new Point(category, globalPoints.getInt("count")));
+                    if (previous != null) {
+                        log.warn("The global point categories '" + previous.getCategory() + "' and '" + category
+                                + "' only differ in case, only '" + category + "' is used");
+                    }
                 }
                 log.debug("There are " + this.globalTags.size() + " global_tags and " + this.globalPoints.size()
                         + " global_points loaded");
@@ -59,14 +80,18 @@ public class GlobalData implements TagData {
         }
     }
 
+    private static String pointKey(final String category) {
+        return category.toLowerCase(Locale.ROOT);
+    }
+
     /**
-     * Returns the List of Tags
+     * Returns a snapshot of the Tags in no particular order.
      *
      * @return the List of Tags
      */
     @Override
     public List<String> getTags() {
-        return globalTags;
+        return List.copyOf(globalTags);
     }
 
     /**
@@ -87,8 +112,8 @@ public class GlobalData implements TagData {
      */
     @Override
     public void addTag(final String tag) {
-        if (!globalTags.contains(tag)) {
-            globalTags.add(tag);
+        if (globalTags.add(tag.intern())) {
+            clearTickCaches();
             saver.add(new Record(UpdateType.ADD_GLOBAL_TAGS, tag));
         }
     }
@@ -102,16 +127,27 @@ public class GlobalData implements TagData {
     @Override
     public void removeTag(final String tag) {
         globalTags.remove(tag);
+        clearTickCaches();
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_TAGS, tag));
     }
 
     /**
-     * Returns the List of Points.
+     * Returns a snapshot of the Points in no particular order.
      *
      * @return the List of Points
      */
     public List<Point> getPoints() {
-        return globalPoints;
+        return List.copyOf(globalPoints.values());
+    }
+
+    /**
+     * Gets the Point of the category, ignoring the case of the category.
+     *
+     * @param category name of the category
+     * @return the Point or empty if there are no global_points in the category
+     */
+    public Optional<Point> getPoint(final String category) {
+        return Optional.ofNullable(globalPoints.get(pointKey(category)));
     }
 
     /**
@@ -123,12 +159,8 @@ public class GlobalData implements TagData {
      */
     @SuppressWarnings("PMD.LinguisticNaming")
     public int hasPointsFromCategory(final String category) {
-        for (final Point p : globalPoints) {
-            if (p.getCategory().equals(category)) {
-                return p.getCount();
-            }
-        }
-        return 0;
+        final Point point = globalPoints.get(pointKey(category));
+        return point != null && point.getCategory().equals(category) ? point.getCount() : 0;
     }
 
     /**
@@ -139,20 +171,22 @@ public class GlobalData implements TagData {
      * @param count    how much global_points will be added (or subtracted if negative)
      */
     public void modifyPoints(final String category, final int count) {
-        saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
-        // check if the category already exists
-        for (final Point point : globalPoints) {
-            if (point.getCategory().equalsIgnoreCase(category)) {
+        synchronized (pointsLock) {
+            // check if the category already exists
+            final Point point = globalPoints.get(pointKey(category));
+            if (point != null) {
                 // if it does, add global_points to it
-                saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS,
+                saver.add(new Record(UpdateType.UPSERT_GLOBAL_POINTS,
                         category, String.valueOf(point.getCount() + count)));
                 point.addPoints(count);
+                clearTickCaches();
                 return;
             }
+            // if not then create new point category with given amount of global_points
+            globalPoints.put(pointKey(category), new Point(category, count));
+            clearTickCaches();
+            saver.add(new Record(UpdateType.UPSERT_GLOBAL_POINTS, category, String.valueOf(count)));
         }
-        // if not then create new point category with given amount of global_points
-        globalPoints.add(new Point(category, count));
-        saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS, category, String.valueOf(count)));
     }
 
     /**
@@ -163,10 +197,11 @@ public class GlobalData implements TagData {
      * @param count    how much global_points will be set
      */
     public void setPoints(final String category, final int count) {
-        saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
-        globalPoints.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
-        globalPoints.add(new Point(category, count));
-        saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS, category, String.valueOf(count)));
+        synchronized (pointsLock) {
+            globalPoints.put(pointKey(category), new Point(category, count));
+            clearTickCaches();
+            saver.add(new Record(UpdateType.UPSERT_GLOBAL_POINTS, category, String.valueOf(count)));
+        }
     }
 
     /**
@@ -175,16 +210,12 @@ public class GlobalData implements TagData {
      * @param category name of a point category
      */
     public void removePointsCategory(final String category) {
-        Point pointToRemove = null;
-        for (final Point point : globalPoints) {
-            if (point.getCategory().equalsIgnoreCase(category)) {
-                pointToRemove = point;
+        synchronized (pointsLock) {
+            if (globalPoints.remove(pointKey(category)) != null) {
+                clearTickCaches();
             }
+            saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
         }
-        if (pointToRemove != null) {
-            globalPoints.remove(pointToRemove);
-        }
-        saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
     }
 
     /**
@@ -194,6 +225,7 @@ public class GlobalData implements TagData {
         // clear all lists
         globalTags.clear();
         globalPoints.clear();
+        clearTickCaches();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_POINTS));
         saver.add(new Record(UpdateType.DELETE_GLOBAL_TAGS));
@@ -205,6 +237,7 @@ public class GlobalData implements TagData {
     public void purgeTags() {
         // clear all lists
         globalTags.clear();
+        clearTickCaches();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_TAGS));
     }
@@ -215,7 +248,15 @@ public class GlobalData implements TagData {
     public void purgePoints() {
         // clear all lists
         globalPoints.clear();
+        clearTickCaches();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_GLOBAL_POINTS));
     }
+
+    /**
+     * Forgets the condition outcomes and variable values remembered in this tick, because global data changed.
+     */
+    private void clearTickCaches() {
+        BetonQuest.getInstance().clearTickCaches();
+    }
 }
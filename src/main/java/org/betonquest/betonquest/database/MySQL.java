@@ -1,5 +1,7 @@
 package org.betonquest.betonquest.database;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -18,8 +20,11 @@ import java.util.TreeMap;
 
 /**
  * Connects to and uses a MySQL database
+ * <p>
+ * Writes use the shared connection from {@link #getConnection()}, while reads borrow connections from a separate
+ * connection pool, so loading data does not wait for the saver.
  */
-@SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
+@SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals", "PMD.AvoidSynchronizedStatement"})
 public class MySQL extends Database {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
@@ -36,6 +41,14 @@ public class MySQL extends Database {
 
     private final String hostname;
 
+    private final int readPoolSize;
+
+    /**
+     * The pool of connections used for reading, created on first use.
+     */
+    @Nullable
+    private HikariDataSource readPool;
+
     /**
      * Creates a new MySQL instance
      *
@@ -55,6 +68,11 @@ public class MySQL extends Database {
         this.database = database;
         this.user = username;
         this.password = password;
+        this.readPoolSize = Math.max(1, plugin.getPluginConfig().getInt("mysql.pool_size", 4));
+    }
+
+    private String getJdbcUrl() {
+        return "jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false";
     }
 
     @Override
@@ -62,8 +80,7 @@ public class MySQL extends Database {
         Connection connection = null;
         try {
             Class.forName("com.mysql.jdbc.Driver");
-            connection = DriverManager.getConnection(
-                    "jdbc:mysql://" + this.hostname + ":" + this.port + "/" + this.database + "?&useSSL=false", this.user, this.password);
+            connection = DriverManager.getConnection(getJdbcUrl() + "&rewriteBatchedStatements=true", this.user, this.password);
             final String connectionClassName = connection.getClass().getName();
             if (!connectionClassName.startsWith("com.mysql.")) {
                 log.warn("External source modified or changed the MySQL connector! We can not guarantee that BetonQuest will work correctly with this connector: " + connectionClassName);
@@ -77,12 +94,73 @@ public class MySQL extends Database {
         return connection;
     }
 
+    @Override
+    public SqlDialect getDialect() {
+        return SqlDialect.MYSQL;
+    }
+
+    @Override
+    public int getReadParallelism() {
+        return readPoolSize;
+    }
+
+    @Override
+    public Connection acquireReadConnection() {
+        try {
+            return getReadPool().getConnection();
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Not able to get a database connection from the pool!", e);
+        }
+    }
+
+    @Override
+    public void releaseReadConnection(final Connection connection) {
+        try {
+            connection.close();
+        } catch (final SQLException e) {
+            log.warn("Failed to release a pooled database connection!", e);
+        }
+    }
+
+    private HikariDataSource getReadPool() {
+        synchronized (this) {
+            if (readPool == null) {
+                final HikariConfig config = new HikariConfig();
+                config.setPoolName("BetonQuest-Read");
+                config.setDriverClassName("com.mysql.jdbc.Driver");
+                config.setJdbcUrl(getJdbcUrl());
+                config.setUsername(user);
+                config.setPassword(password);
+                config.setMaximumPoolSize(readPoolSize);
+                config.setMinimumIdle(1);
+                config.setReadOnly(true);
+                config.addDataSourceProperty("cachePrepStmts", "true");
+                config.addDataSourceProperty("prepStmtCacheSize", "64");
+                config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+                readPool = new HikariDataSource(config);
+            }
+            return readPool;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (readPool != null) {
+                readPool.close();
+                readPool = null;
+            }
+        }
+        super.close();
+    }
+
     @Override
     protected SortedMap<MigrationKey, DatabaseUpdate> getMigrations() {
         final SortedMap<MigrationKey, DatabaseUpdate> migrations = new TreeMap<>();
         migrations.put(new MigrationKey("betonquest", 1), this::migration1);
         migrations.put(new MigrationKey("betonquest", 2), this::migration2);
         migrations.put(new MigrationKey("betonquest", 3), this::migration3);
+        migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         return migrations;
     }
 
@@ -267,4 +345,18 @@ public class MySQL extends Database {
                     + "MODIFY COLUMN name VARCHAR(63) NOT NULL");
         }
     }
+
+    /**
+     * Executes the fourth migration, which adds an index for loading the top points of a category.
+     * All other per-profile lookups are covered by primary keys or by the indexes MySQL creates for foreign keys.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration4(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX " + prefix + "points_category_idx ON " + prefix + "points (category, count)");
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.database;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Journal;
 import org.betonquest.betonquest.Point;
@@ -26,9 +25,12 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -36,7 +38,6 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * Represents an object storing all profile-related data, which can load and save it.
  */
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.CommentRequired", "PMD.AvoidDuplicateLiterals", "PMD.AvoidSynchronizedStatement"})
-@SuppressFBWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
 public class PlayerData implements TagData {
     /**
      * The default language key.
@@ -55,11 +56,22 @@ public class PlayerData implements TagData {
 
     private final String profileID;
 
-    private final List<String> tags = new CopyOnWriteArrayList<>();
+    /**
+     * The tags of the profile, interned so equal tags of all profiles share one string.
+     */
+    private final Set<String> tags = ConcurrentHashMap.newKeySet();
 
     private final List<Pointer> entries = new CopyOnWriteArrayList<>();
 
-    private final List<Point> points = new CopyOnWriteArrayList<>();
+    /**
+     * The points of the profile by their lower case category.
+     */
+    private final Map<String, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * The lock for changing the points together with their database records.
+     */
+    private final Object pointsLock = new Object();
 
     private final Map<String, String> objectives = new ConcurrentHashMap<>();
 
@@ -68,6 +80,16 @@ public class PlayerData implements TagData {
 
     private List<ItemStack> backpack = new CopyOnWriteArrayList<>();
 
+    /**
+     * The backpack rows stored in the database, also used as lock for saving the backpack.
+     */
+    private final StoredBackpack storedBackpack;
+
+    /**
+     * The instructions of the items in the stored backpack, by the item with an amount of one.
+     */
+    private Map<ItemStack, String> backpackInstructions = new HashMap<>();
+
     /**
      * The state of a conversation the player is in.
      */
@@ -84,71 +106,56 @@ public class PlayerData implements TagData {
     public PlayerData(final Profile profile) {
         this.profile = profile;
         this.profileID = profile.getProfileUUID().toString();
+        this.storedBackpack = new StoredBackpack(profileID);
         loadAllPlayerData();
     }
 
     /**
      * Loads all data for the profile and puts it in appropriate lists.
+     * All data is fetched with a single query, so loading costs only one round trip to the database.
      */
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.AvoidDuplicateLiterals"})
     public final void loadAllPlayerData() {
-        try {
-
-            final Connector con = new Connector();
-
-            try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-                 ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-                 ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-                 ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-                 ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-                 ResultSet profileResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
-
-                while (objectiveResults.next()) {
-                    objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
+        try (Connector con = new Connector();
+             ResultSet results = con.querySQL(QueryType.SELECT_PROFILE_DATA,
+                     profileID, profileID, profileID, profileID, profileID, profileID)) {
+            boolean playerFound = false;
+            while (results.next()) {
+                final String key = results.getString("entry_key");
+                switch (results.getString("entry_type")) {
+                    case "objective" -> objectives.put(key, results.getString("entry_value"));
+                    case "tag" -> tags.add(key.intern());
+                    case "journal" -> entries.add(new Pointer(key, results.getTimestamp("entry_date").getTime()));
+                    case "point" -> addLoadedPoint(key, results.getInt("entry_amount"));
+                    case "backpack" -> addItemToBackpack(key, results.getInt("entry_amount"));
+                    case "player" -> {
+                        playerFound = true;
+                        loadLanguage(key);
+                        loadActiveConversation(results.getString("entry_value"));
+                    }
+                    default -> log.warn("Unknown profile data type: " + results.getString("entry_type"));
                 }
-
-                while (tagResults.next()) {
-                    tags.add(tagResults.getString("tag"));
-                }
-
-                while (journalResults.next()) {
-                    entries.add(new Pointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime()));
-                }
-
-                while (pointResults.next()) {
-                    points.add(new Point(pointResults.getString("category"), pointResults.getInt("count")));
-                }
-
-                while (backpackResults.next()) {
-                    addItemToBackpack(backpackResults);
-                }
-
-                if (profileResult.next()) {
-                    loadLanguage(profileResult);
-                    loadActiveConversation(profileResult);
-                } else {
-                    setupProfile();
-                }
-
-                log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
-                        + " points, " + entries.size() + " journal entries and " + backpack.size()
-                        + " items for " + profile);
             }
+            if (!playerFound) {
+                setupProfile();
+            }
+
+            log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
+                    + " points, " + entries.size() + " journal entries and " + backpack.size()
+                    + " items for " + profile);
         } catch (final SQLException e) {
             log.error("There was an exception with SQL", e);
         }
     }
 
-    private void loadLanguage(final ResultSet playerResult) throws SQLException {
-        profileLanguage = playerResult.getString("language");
+    private void loadLanguage(final String language) {
+        profileLanguage = language;
         if (DEFAULT_LANGUAGE_KEY.equals(profileLanguage)) {
             profileLanguage = Config.getLanguage();
         }
     }
 
-    private void loadActiveConversation(final ResultSet playerResult) throws SQLException {
-        final String fullInstruction = playerResult.getString("conversation");
-
+    private void loadActiveConversation(@Nullable final String fullInstruction) {
         try {
             final Optional<PlayerConversationState> playerConversationState = PlayerConversationState.fromString(fullInstruction);
             playerConversationState.ifPresent(conversationState -> activeConversation = conversationState);
@@ -168,9 +175,8 @@ public class PlayerData implements TagData {
                 profileID, BetonQuest.getInstance().getPluginConfig().getString("profiles.initial_name", "default")));
     }
 
-    private void addItemToBackpack(final ResultSet backpackResults) throws SQLException {
-        final String instruction = backpackResults.getString("instruction");
-        final int amount = backpackResults.getInt("amount");
+    private void addItemToBackpack(final String instruction, final int amount) {
+        storedBackpack.loaded(instruction, amount);
         final ItemStack item;
         try {
             item = new QuestItem(instruction).generate(amount);
@@ -180,16 +186,35 @@ public class PlayerData implements TagData {
             return;
         }
         backpack.add(item);
+        backpackInstructions.put(singleItem(item), instruction);
+    }
+
+    private static ItemStack singleItem(final ItemStack item) {
+        final ItemStack single = item.clone();
+        single.setAmount(1);
+        return single;
+    }
+
+    private void addLoadedPoint(final String category, final int count) {
+        final Point previous = points.put(pointKey(category), new Point(category, count));
+        if (previous != null) {
+            log.warn("The point categories '" + previous.getCategory() + "' and '" + category + "' of " + profile
+                    + " only differ in case, only '" + category + "' is used");
+        }
+    }
+
+    private static String pointKey(final String category) {
+        return category.toLowerCase(Locale.ROOT);
     }
 
     /**
-     * Returns the List of Tags for this profile.
+     * Returns a snapshot of the Tags of this profile in no particular order.
      *
      * @return the List of Tags
      */
     @Override
     public List<String> getTags() {
-        return Collections.unmodifiableList(tags);
+        return List.copyOf(tags);
     }
 
     /**
@@ -210,13 +235,11 @@ public class PlayerData implements TagData {
      */
     @Override
     public void addTag(final String tag) {
-        synchronized (tags) {
-            if (!tags.contains(tag)) {
-                tags.add(tag);
-                saver.add(new Record(UpdateType.ADD_TAGS, profileID, tag));
-                BetonQuest.getInstance()
-                        .callSyncBukkitEvent(new PlayerTagAddEvent(profile, tag));
-            }
+        if (tags.add(tag.intern())) {
+            invalidateTickCaches();
+            saver.add(new Record(UpdateType.ADD_TAGS, profileID, tag));
+            BetonQuest.getInstance()
+                    .callSyncBukkitEvent(new PlayerTagAddEvent(profile, tag));
         }
     }
 
@@ -228,23 +251,31 @@ public class PlayerData implements TagData {
      */
     @Override
     public void removeTag(final String tag) {
-        synchronized (tags) {
-            if (tags.contains(tag)) {
-                tags.remove(tag);
-                saver.add(new Record(UpdateType.REMOVE_TAGS, profileID, tag));
-                BetonQuest.getInstance()
-                        .callSyncBukkitEvent(new PlayerTagRemoveEvent(profile, tag));
-            }
+        if (tags.remove(tag)) {
+            invalidateTickCaches();
+            saver.add(new Record(UpdateType.REMOVE_TAGS, profileID, tag));
+            BetonQuest.getInstance()
+                    .callSyncBukkitEvent(new PlayerTagRemoveEvent(profile, tag));
         }
     }
 
     /**
-     * Returns the List of Points for this profile.
+     * Returns a snapshot of the Points of this profile in no particular order.
      *
      * @return the List of Points
      */
     public List<Point> getPoints() {
-        return Collections.unmodifiableList(points);
+        return List.copyOf(points.values());
+    }
+
+    /**
+     * Gets the Point of the category, ignoring the case of the category.
+     *
+     * @param category name of the category
+     * @return the Point or empty if the profile has no points in the category
+     */
+    public Optional<Point> getPoint(final String category) {
+        return Optional.ofNullable(points.get(pointKey(category)));
     }
 
     /**
@@ -256,14 +287,8 @@ public class PlayerData implements TagData {
      */
     @SuppressWarnings("PMD.LinguisticNaming")
     public int hasPointsFromCategory(final String category) {
-        synchronized (points) {
-            for (final Point p : points) {
-                if (p.getCategory().equals(category)) {
-                    return p.getCount();
-                }
-            }
-            return 0;
-        }
+        final Point point = points.get(pointKey(category));
+        return point != null && point.getCategory().equals(category) ? point.getCount() : 0;
     }
 
     /**
@@ -274,22 +299,22 @@ public class PlayerData implements TagData {
      * @param count    how much points will be added (or subtracted if negative)
      */
     public void modifyPoints(final String category, final int count) {
-        synchronized (points) {
-            saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
+        synchronized (pointsLock) {
             // check if the category already exists
-            for (final Point point : points) {
-                if (point.getCategory().equalsIgnoreCase(category)) {
-                    // if it does, add points to it
-                    saver.add(new Record(UpdateType.ADD_POINTS,
-                            profileID, category, String.valueOf(point.getCount() + count)));
-                    point.addPoints(count);
-                    BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, point.getCount()));
-                    return;
-                }
+            final Point point = points.get(pointKey(category));
+            if (point != null) {
+                // if it does, add points to it
+                saver.add(new Record(UpdateType.UPSERT_POINTS,
+                        profileID, category, String.valueOf(point.getCount() + count)));
+                point.addPoints(count);
+                invalidateTickCaches();
+                BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, point.getCount()));
+                return;
             }
             // if not then create new point category with given amount of points
-            points.add(new Point(category, count));
-            saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+            points.put(pointKey(category), new Point(category, count));
+            invalidateTickCaches();
+            saver.add(new Record(UpdateType.UPSERT_POINTS, profileID, category, String.valueOf(count)));
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -302,11 +327,10 @@ public class PlayerData implements TagData {
      * @param count    how much points will be set
      */
     public void setPoints(final String category, final int count) {
-        synchronized (points) {
-            saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
-            points.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
-            points.add(new Point(category, count));
-            saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+        synchronized (pointsLock) {
+            points.put(pointKey(category), new Point(category, count));
+            invalidateTickCaches();
+            saver.add(new Record(UpdateType.UPSERT_POINTS, profileID, category, String.valueOf(count)));
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -317,15 +341,9 @@ public class PlayerData implements TagData {
      * @param category name of a point category
      */
     public void removePointsCategory(final String category) {
-        synchronized (points) {
-            Point pointToRemove = null;
-            for (final Point point : points) {
-                if (point.getCategory().equalsIgnoreCase(category)) {
-                    pointToRemove = point;
-                }
-            }
-            if (pointToRemove != null) {
-                points.remove(pointToRemove);
+        synchronized (pointsLock) {
+            if (points.remove(pointKey(category)) != null) {
+                invalidateTickCaches();
                 BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, 0));
             }
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
@@ -509,16 +527,32 @@ public class PlayerData implements TagData {
         refreshBackpack(backpack);
     }
 
+    /**
+     * Saves the rows of the backpack that changed since the last save.
+     * Items that were already in the backpack reuse their instruction instead of serializing them again.
+     *
+     * @param backpack the new content of the backpack
+     */
     private void refreshBackpack(final List<ItemStack> backpack) {
-        // quite expensive, should be changed
-        saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
-        for (final ItemStack itemStack : backpack) {
-            final String instruction = QuestItem.itemToString(itemStack);
-            final String newAmount = String.valueOf(itemStack.getAmount());
-            saver.add(new Record(UpdateType.ADD_BACKPACK, profileID, instruction, newAmount));
+        synchronized (storedBackpack) {
+            final Map<ItemStack, String> instructions = new HashMap<>();
+            final List<StoredBackpack.Entry> entries = new ArrayList<>(backpack.size());
+            for (final ItemStack itemStack : backpack) {
+                final String instruction = instructions.computeIfAbsent(singleItem(itemStack), this::getBackpackInstruction);
+                entries.add(new StoredBackpack.Entry(instruction, itemStack.getAmount()));
+            }
+            backpackInstructions = instructions;
+            for (final Record record : storedBackpack.update(entries)) {
+                saver.add(record);
+            }
         }
     }
 
+    private String getBackpackInstruction(final ItemStack singleItem) {
+        final String instruction = backpackInstructions.get(singleItem);
+        return instruction == null ? QuestItem.itemToString(singleItem) : instruction;
+    }
+
     /**
      * @return the language this profile uses
      */
@@ -537,6 +571,7 @@ public class PlayerData implements TagData {
         } else {
             this.profileLanguage = lang;
         }
+        invalidateTickCaches();
         saver.add(new Record(UpdateType.UPDATE_PLAYER_LANGUAGE, lang, profileID));
     }
 
@@ -563,12 +598,17 @@ public class PlayerData implements TagData {
         entries.clear();
         getJournal().clear(); // journal can be null, so use a method to get it
         backpack.clear();
+        invalidateTickCaches();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_OBJECTIVES, profileID));
         saver.add(new Record(UpdateType.DELETE_JOURNAL, profileID));
         saver.add(new Record(UpdateType.DELETE_POINTS, profileID));
         saver.add(new Record(UpdateType.DELETE_TAGS, profileID));
-        saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
+        synchronized (storedBackpack) {
+            saver.add(new Record(UpdateType.DELETE_BACKPACK, profileID));
+            storedBackpack.clear();
+            backpackInstructions = new HashMap<>();
+        }
         saver.add(new Record(UpdateType.UPDATE_CONVERSATION, "null", profileID));
         // update the journal so it's empty
         if (profile.getOnlineProfile().isPresent()) {
@@ -576,6 +616,13 @@ public class PlayerData implements TagData {
         }
     }
 
+    /**
+     * Forgets the condition outcomes and variable values remembered in this tick, because the data changed.
+     */
+    private void invalidateTickCaches() {
+        BetonQuest.getInstance().invalidateTickCaches(profile);
+    }
+
     private Collection<ItemStack> copyItemList(final Collection<ItemStack> source, final Collection<ItemStack> target) {
         for (final ItemStack itemStack : source) {
             target.add(itemStack.clone());
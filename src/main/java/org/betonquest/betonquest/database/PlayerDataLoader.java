@@ -0,0 +1,135 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the {@link PlayerData} of many profiles at once, for example for all online players on startup.
+ * <p>
+ * The profiles are loaded in parallel, using as many threads as the database can serve reads at the same time.
+ * This blocks until all data is loaded, so it must not be called from the main thread.
+ * <p>
+ * While the data is loading, other code may already create data for a pending profile on the main thread.
+ * {@link #store(Profile, PlayerData)} keeps that data, so the caller starts the data that is actually used.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class PlayerDataLoader {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The amount of profiles that are loaded at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * The stored data by profile, which the loaded data is put into.
+     */
+    private final Map<Profile, PlayerData> playerDataMap;
+
+    /**
+     * The profiles whose data is loading and was not stored yet.
+     */
+    private final Set<Profile> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new loader.
+     *
+     * @param log           the logger that will be used for logging
+     * @param parallelism   the amount of profiles that are loaded at the same time
+     * @param playerDataMap the stored data by profile, which the loaded data is put into
+     */
+    public PlayerDataLoader(final BetonQuestLogger log, final int parallelism, final Map<Profile, PlayerData> playerDataMap) {
+        this.log = log;
+        this.parallelism = Math.max(1, parallelism);
+        this.playerDataMap = playerDataMap;
+    }
+
+    /**
+     * Marks the profiles as pending, before their data is loaded.
+     *
+     * @param profiles the profiles whose data will be loaded
+     */
+    public void markPending(final Collection<? extends Profile> profiles) {
+        pending.addAll(profiles);
+    }
+
+    /**
+     * Stops tracking a pending profile, for example because its data could not be loaded or the player left.
+     *
+     * @param profile the profile to forget
+     */
+    public void forget(final Profile profile) {
+        pending.remove(profile);
+    }
+
+    /**
+     * Stores the loaded data of a pending profile.
+     * If data was already created for the profile while it was loading, that data is kept and returned instead.
+     *
+     * @param profile the profile the data was loaded for
+     * @param loaded  the loaded data
+     * @return the stored data of the profile that has to be started,
+     * or empty if the profile was not pending anymore
+     */
+    public Optional<PlayerData> store(final Profile profile, final PlayerData loaded) {
+        if (!pending.remove(profile)) {
+            return Optional.empty();
+        }
+        final PlayerData existing = playerDataMap.putIfAbsent(profile, loaded);
+        return Optional.of(existing == null ? loaded : existing);
+    }
+
+    /**
+     * Loads the data of all given profiles.
+     * Profiles whose data could not be loaded are missing in the result.
+     *
+     * @param profiles the profiles to load the data for
+     * @param <P>      the type of the profiles
+     * @return the loaded data by profile, in the order of the given profiles
+     */
+    public <P extends Profile> Map<P, PlayerData> load(final Collection<P> profiles) {
+        final Map<P, PlayerData> loaded = new LinkedHashMap<>();
+        if (profiles.isEmpty()) {
+            return loaded;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, profiles.size()));
+        try {
+            final List<Future<PlayerData>> futures = new ArrayList<>(profiles.size());
+            for (final P profile : profiles) {
+                futures.add(executor.submit(() -> new PlayerData(profile)));
+            }
+            int index = 0;
+            for (final P profile : profiles) {
+                try {
+                    loaded.put(profile, futures.get(index).get());
+                } catch (final ExecutionException e) {
+                    log.error("Could not load the data of " + profile, e);
+                }
+                index++;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Loading the data of " + profiles.size() + " profiles was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.debug("Loaded the data of " + loaded.size() + " profiles with " + parallelism + " threads");
+        return loaded;
+    }
+}
@@ -14,6 +14,19 @@ public enum QueryType {
     SELECT_JOURNAL(prefix -> "SELECT pointer, date FROM " + prefix + "journal WHERE profileID = ?;"),
     SELECT_BACKPACK(prefix -> "SELECT instruction, amount FROM " + prefix + "backpack WHERE profileID = ?;"),
     SELECT_PLAYER(prefix -> "SELECT language, conversation FROM " + prefix + "player WHERE playerID = ?;"),
+    /**
+     * Selects all data of a profile in one round trip. The profileID has to be passed six times.
+     * <p>
+     * Each row has an {@code entry_type} of {@code objective}, {@code tag}, {@code journal}, {@code point},
+     * {@code backpack} or {@code player}, an {@code entry_key} and depending on the type an {@code entry_value},
+     * {@code entry_amount} or {@code entry_date}.
+     */
+    SELECT_PROFILE_DATA(prefix -> "SELECT 'objective' AS entry_type, objective AS entry_key, instructions AS entry_value, NULL AS entry_amount, NULL AS entry_date FROM " + prefix + "objectives WHERE profileID = ? "
+            + "UNION ALL SELECT 'tag', tag, NULL, NULL, NULL FROM " + prefix + "tags WHERE profileID = ? "
+            + "UNION ALL SELECT 'journal', pointer, NULL, NULL, date FROM " + prefix + "journal WHERE profileID = ? "
+            + "UNION ALL SELECT 'point', category, NULL, count, NULL FROM " + prefix + "points WHERE profileID = ? "
+            + "UNION ALL SELECT 'backpack', instruction, NULL, amount, NULL FROM " + prefix + "backpack WHERE profileID = ? "
+            + "UNION ALL SELECT 'player', language, conversation, NULL, NULL FROM " + prefix + "player WHERE playerID = ?;"),
 
     SELECT_PLAYERS_TAGS(prefix -> "SELECT profileID FROM " + prefix + "tags GROUP BY profileID;"),
     SELECT_PLAYERS_JOURNAL(prefix -> "SELECT profileID FROM " + prefix + "journal GROUP BY profileID;"),
@@ -72,12 +72,18 @@ public class SQLite extends Database {
         return connection;
     }
 
+    @Override
+    public SqlDialect getDialect() {
+        return SqlDialect.SQLITE;
+    }
+
     @Override
     protected SortedMap<MigrationKey, DatabaseUpdate> getMigrations() {
         final SortedMap<MigrationKey, DatabaseUpdate> migrations = new TreeMap<>();
         migrations.put(new MigrationKey("betonquest", 1), this::migration1);
         migrations.put(new MigrationKey("betonquest", 2), this::migration2);
         migrations.put(new MigrationKey("betonquest", 3), this::migration3);
+        migrations.put(new MigrationKey("betonquest", 4), this::migration4);
         return migrations;
     }
 
@@ -282,4 +288,21 @@ public class SQLite extends Database {
                     + "RENAME TO " + prefix + "player_profile");
         }
     }
+
+    /**
+     * Executes the fourth migration, which adds indexes for the per-profile lookups that are not covered by a primary
+     * key and for loading the top points of a category.
+     *
+     * @param connection the connection to the database
+     * @throws SQLException if something goes wrong, while executing the query's
+     */
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private void migration4(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "journal_profile_idx ON " + prefix + "journal (profileID)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "backpack_profile_idx ON " + prefix + "backpack (profileID)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "points_category_idx ON " + prefix + "points (category, count)");
+            statement.executeUpdate("CREATE INDEX IF NOT EXISTS " + prefix + "player_active_profile_idx ON " + prefix + "player (active_profile)");
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package org.betonquest.betonquest.database;
+
+/**
+ * The SQL dialects spoken by the supported databases.
+ */
+public enum SqlDialect {
+    /**
+     * The dialect of MySQL and MariaDB.
+     */
+    MYSQL,
+    /**
+     * The dialect of SQLite.
+     */
+    SQLITE
+}
@@ -0,0 +1,113 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the backpack rows of a profile that are stored in the database, so a change of the backpack only writes the
+ * rows that changed instead of deleting and inserting all of them.
+ * <p>
+ * Rows with the same instruction and amount can not be told apart, so they are counted and the records address one
+ * of them by its lowest id.
+ * <p>
+ * This class is not thread safe, its owner has to synchronize the access.
+ */
+final class StoredBackpack {
+    /**
+     * The ID of the profile the backpack belongs to.
+     */
+    private final String profileID;
+
+    /**
+     * The amount of stored rows by their content.
+     */
+    private Map<Entry, Integer> rows = new LinkedHashMap<>();
+
+    /**
+     * Creates a new tracker for a profile without any stored row.
+     *
+     * @param profileID the ID of the profile the backpack belongs to
+     */
+    StoredBackpack(final String profileID) {
+        this.profileID = profileID;
+    }
+
+    private static Map<Entry, Integer> count(final List<Entry> entries) {
+        final Map<Entry, Integer> counted = new LinkedHashMap<>();
+        for (final Entry entry : entries) {
+            counted.merge(entry, 1, Integer::sum);
+        }
+        return counted;
+    }
+
+    /**
+     * Remembers a row that was loaded from the database.
+     *
+     * @param instruction the item instruction of the row
+     * @param amount      the amount of the row
+     */
+    public void loaded(final String instruction, final int amount) {
+        rows.merge(new Entry(instruction, amount), 1, Integer::sum);
+    }
+
+    /**
+     * Forgets all rows, because they were deleted from the database.
+     */
+    public void clear() {
+        rows = new LinkedHashMap<>();
+    }
+
+    /**
+     * Gets the records that change the stored rows to the given backpack content and remembers the new content.
+     * A removed row of an instruction is reused for an added row of the same instruction by updating its amount.
+     *
+     * @param entries the content of the backpack
+     * @return the records to save in the order they have to be saved
+     */
+    public List<Record> update(final List<Entry> entries) {
+        final Map<Entry, Integer> current = count(entries);
+        final Map<String, Deque<Integer>> removedAmounts = new LinkedHashMap<>();
+        for (final Map.Entry<Entry, Integer> row : rows.entrySet()) {
+            final Entry entry = row.getKey();
+            for (int surplus = row.getValue() - current.getOrDefault(entry, 0); surplus > 0; surplus--) {
+                removedAmounts.computeIfAbsent(entry.instruction(), key -> new ArrayDeque<>()).add(entry.amount());
+            }
+        }
+        final List<Record> records = new ArrayList<>();
+        for (final Map.Entry<Entry, Integer> row : current.entrySet()) {
+            final Entry entry = row.getKey();
+            final String amount = String.valueOf(entry.amount());
+            for (int missing = row.getValue() - rows.getOrDefault(entry, 0); missing > 0; missing--) {
+                final Deque<Integer> reusable = removedAmounts.get(entry.instruction());
+                if (reusable == null || reusable.isEmpty()) {
+                    records.add(new Record(UpdateType.ADD_BACKPACK, profileID, entry.instruction(), amount));
+                } else {
+                    records.add(new Record(UpdateType.UPDATE_BACKPACK_AMOUNT, amount, profileID,
+                            entry.instruction(), String.valueOf(reusable.poll())));
+                }
+            }
+        }
+        for (final Map.Entry<String, Deque<Integer>> removed : removedAmounts.entrySet()) {
+            for (final Integer amount : removed.getValue()) {
+                records.add(new Record(UpdateType.REMOVE_BACKPACK, profileID, removed.getKey(), String.valueOf(amount)));
+            }
+        }
+        rows = current;
+        return records;
+    }
+
+    /**
+     * The content of a backpack row.
+     *
+     * @param instruction the item instruction
+     * @param amount      the amount of items
+     */
+    record Entry(String instruction, int amount) {
+    }
+}
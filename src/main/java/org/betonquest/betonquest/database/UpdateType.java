@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.database;
 
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -50,6 +51,33 @@ public enum UpdateType {
      * Add single player profile to the database. PlayerID, profileID, name.
      */
     ADD_PLAYER_PROFILE(prefix -> "INSERT INTO " + prefix + "player_profile (playerID, profileID, name) VALUES (?, ?, ?);"),
+    /**
+     * Adds the single objective to the database or replaces its data if it
+     * already exists. ProfileID, objectiveID, instruction.
+     */
+    UPSERT_OBJECTIVES(prefix -> "REPLACE INTO " + prefix + "objectives (profileID, objective, instructions) VALUES (?, ?, ?);",
+            Map.of(SqlDialect.MYSQL, prefix -> "INSERT INTO " + prefix + "objectives (profileID, objective, instructions) VALUES (?, ?, ?) "
+                            + "ON DUPLICATE KEY UPDATE instructions = VALUES(instructions);",
+                    SqlDialect.SQLITE, prefix -> "INSERT INTO " + prefix + "objectives (profileID, objective, instructions) VALUES (?, ?, ?) "
+                            + "ON CONFLICT (profileID, objective) DO UPDATE SET instructions = excluded.instructions;")),
+    /**
+     * Adds single point category to the database or replaces its amount if
+     * it already exists. ProfileID, category, amount.
+     */
+    UPSERT_POINTS(prefix -> "REPLACE INTO " + prefix + "points (profileID, category, count) VALUES (?, ?, ?);",
+            Map.of(SqlDialect.MYSQL, prefix -> "INSERT INTO " + prefix + "points (profileID, category, count) VALUES (?, ?, ?) "
+                            + "ON DUPLICATE KEY UPDATE count = VALUES(count);",
+                    SqlDialect.SQLITE, prefix -> "INSERT INTO " + prefix + "points (profileID, category, count) VALUES (?, ?, ?) "
+                            + "ON CONFLICT (profileID, category) DO UPDATE SET count = excluded.count;")),
+    /**
+     * Adds single global point category to the database or replaces its
+     * amount if it already exists. Category, amount.
+     */
+    UPSERT_GLOBAL_POINTS(prefix -> "REPLACE INTO " + prefix + "global_points (category, count) VALUES (?, ?);",
+            Map.of(SqlDialect.MYSQL, prefix -> "INSERT INTO " + prefix + "global_points (category, count) VALUES (?, ?) "
+                            + "ON DUPLICATE KEY UPDATE count = VALUES(count);",
+                    SqlDialect.SQLITE, prefix -> "INSERT INTO " + prefix + "global_points (category, count) VALUES (?, ?) "
+                            + "ON CONFLICT (category) DO UPDATE SET count = excluded.count;")),
     /**
      * Removes the single objective from the database. ProfileID,
      * objectiveID.
@@ -76,6 +104,18 @@ public enum UpdateType {
      * date.
      */
     REMOVE_JOURNAL(prefix -> "DELETE FROM " + prefix + "journal WHERE profileID = ? AND pointer = ? AND date = ?;"),
+    /**
+     * Removes one itemstack with the given instruction and amount from the
+     * database. ProfileID, instruction, amount.
+     */
+    REMOVE_BACKPACK(prefix -> "DELETE FROM " + prefix + "backpack WHERE id = (SELECT id FROM (SELECT MIN(id) AS id FROM "
+            + prefix + "backpack WHERE profileID = ? AND instruction = ? AND amount = ?) AS entry);"),
+    /**
+     * Changes the amount of one itemstack with the given instruction and
+     * amount in the database. New amount, profileID, instruction, old amount.
+     */
+    UPDATE_BACKPACK_AMOUNT(prefix -> "UPDATE " + prefix + "backpack SET amount = ? WHERE id = (SELECT id FROM (SELECT MIN(id) AS id FROM "
+            + prefix + "backpack WHERE profileID = ? AND instruction = ? AND amount = ?) AS entry);"),
     /**
      * Removes single profile from the database. ProfileID.
      */
@@ -145,8 +185,18 @@ public enum UpdateType {
      */
     private final Function<String, String> statementCreator;
 
+    /**
+     * Functions to create the SQL code from a prefix for dialects that have a better suited statement.
+     */
+    private final Map<SqlDialect, Function<String, String>> dialectStatementCreators;
+
     UpdateType(final Function<String, String> sqlTemplate) {
+        this(sqlTemplate, Map.of());
+    }
+
+    UpdateType(final Function<String, String> sqlTemplate, final Map<SqlDialect, Function<String, String>> dialectSqlTemplates) {
         this.statementCreator = sqlTemplate;
+        this.dialectStatementCreators = dialectSqlTemplates;
     }
 
     /**
@@ -158,4 +208,15 @@ public enum UpdateType {
     public String createSql(final String tablePrefix) {
         return statementCreator.apply(tablePrefix);
     }
+
+    /**
+     * Create the SQL code for the given table prefix and SQL dialect.
+     *
+     * @param tablePrefix table prefix to use
+     * @param dialect     SQL dialect of the database
+     * @return SQL-code for the update
+     */
+    public String createSql(final String tablePrefix, final SqlDialect dialect) {
+        return dialectStatementCreators.getOrDefault(dialect, statementCreator).apply(tablePrefix);
+    }
 }
@@ -7,7 +7,9 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.MatchResult;
@@ -32,6 +34,11 @@ public class Variable<T> {
      */
     private final ValueResolver<T> value;
 
+    /**
+     * Whether the input contains no variables, so the value is the same for every profile.
+     */
+    private final boolean constant;
+
     /**
      * Resolves a string that may contain variables to a variable of the given type.
      *
@@ -44,7 +51,8 @@ public class Variable<T> {
     public Variable(final VariableProcessor variableProcessor, final QuestPackage pack, final String input,
                     final TypeResolver<T> resolver) throws InstructionParseException {
         final Map<String, org.betonquest.betonquest.api.Variable> variables = getVariables(variableProcessor, pack, input);
-        if (variables.isEmpty()) {
+        constant = variables.isEmpty();
+        if (constant) {
             try {
                 final T resolved = resolver.resolve(input);
                 value = profile -> resolved;
@@ -52,10 +60,56 @@ public class Variable<T> {
                 throw new InstructionParseException(e.getMessage(), e);
             }
         } else {
-            value = profile -> resolver.resolve(getString(input, variables, profile));
+            final Segment[] segments = compile(variableProcessor, input, variables);
+            if (segments.length == 1) {
+                final Segment single = segments[0];
+                value = profile -> resolver.resolve(single.resolve(profile));
+            } else {
+                final int literalLength = input.length();
+                value = profile -> resolver.resolve(concat(segments, literalLength, profile));
+            }
         }
     }
 
+    /**
+     * Splits the input into literal text and variable references, so resolving it does not need to match the
+     * {@link #VARIABLE_PATTERN} again.
+     *
+     * @param variableProcessor the processor resolving the variables
+     * @param input             the string that contains variables
+     * @param variables         the variables in the input by their matched text
+     * @return the segments of the input in order
+     */
+    private static Segment[] compile(final VariableProcessor variableProcessor, final String input,
+                                     final Map<String, org.betonquest.betonquest.api.Variable> variables) {
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = VARIABLE_PATTERN.matcher(input);
+        int literalStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                final String literal = input.substring(literalStart, matcher.start());
+                segments.add(profile -> literal);
+            }
+            final org.betonquest.betonquest.api.Variable variable = variables.get(matcher.group());
+            segments.add(profile -> variableProcessor.getValue(variable, profile));
+            literalStart = matcher.end();
+        }
+        if (literalStart < input.length()) {
+            final String literal = input.substring(literalStart);
+            segments.add(profile -> literal);
+        }
+        return segments.toArray(new Segment[0]);
+    }
+
+    private static String concat(final Segment[] segments, final int expectedLength, @Nullable final Profile profile)
+            throws QuestRuntimeException {
+        final StringBuilder resolved = new StringBuilder(expectedLength);
+        for (final Segment segment : segments) {
+            resolved.append(segment.resolve(profile));
+        }
+        return resolved.toString();
+    }
+
     private Map<String, org.betonquest.betonquest.api.Variable> getVariables(final VariableProcessor variableProcessor,
                                                                              final QuestPackage pack,
                                                                              final String input)
@@ -79,22 +133,6 @@ public class Variable<T> {
                 .collect(Collectors.toSet());
     }
 
-    private String getString(final String input, final Map<String, org.betonquest.betonquest.api.Variable> variables,
-                             @Nullable final Profile profile) throws QuestRuntimeException {
-        final Matcher matcher = VARIABLE_PATTERN.matcher(input);
-        final StringBuilder resolvedString = new StringBuilder();
-        while (matcher.find()) {
-            final String variable = matcher.group();
-            final org.betonquest.betonquest.api.Variable resolvedVariable = variables.get(variable);
-            if (resolvedVariable == null) {
-                throw new QuestRuntimeException("Could not resolve variable '" + variable + "'");
-            }
-            matcher.appendReplacement(resolvedString, Matcher.quoteReplacement(resolvedVariable.getValue(profile)));
-        }
-        matcher.appendTail(resolvedString);
-        return resolvedString.toString();
-    }
-
     private String replaceEscapedPercent(final String input) {
         return input.replaceAll("(?<!\\\\)\\\\%", "%");
     }
@@ -110,6 +148,16 @@ public class Variable<T> {
         return value.resolve(profile);
     }
 
+    /**
+     * Checks if the variable contains no variables, so {@link #getValue(Profile)} returns the same value for every
+     * profile and never throws.
+     *
+     * @return true if the value is constant
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
     /**
      * Resolves the value of the variable to the given type.
      *
@@ -127,6 +175,21 @@ public class Variable<T> {
         T resolve(String variable) throws QuestRuntimeException;
     }
 
+    /**
+     * A part of the input, either literal text or a variable.
+     */
+    @FunctionalInterface
+    private interface Segment {
+        /**
+         * Gets the text of this part.
+         *
+         * @param profile the profile of the player to resolve the variables for
+         * @return the resolved text
+         * @throws QuestRuntimeException when the variable could not be resolved
+         */
+        String resolve(@Nullable Profile profile) throws QuestRuntimeException;
+    }
+
     /**
      * Resolves the value of the variable.
      *
@@ -1,8 +1,10 @@
 package org.betonquest.betonquest.item;
 
 import org.betonquest.betonquest.Instruction;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ItemID;
 import org.betonquest.betonquest.item.typehandler.BookHandler;
 import org.betonquest.betonquest.item.typehandler.ColorHandler;
@@ -31,13 +33,17 @@ import org.bukkit.potion.PotionData;
 import org.bukkit.potion.PotionEffect;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * Represents an item handled by the configuration.
@@ -55,6 +61,16 @@ public class QuestItem {
             new FireworkHandler(), new UnbreakableHandler(), new CustomModelDataHandler(), new FlagHandler()
     );
 
+    /**
+     * The parsed quest items by their ID, until the next reload.
+     */
+    private static final Map<ItemID, QuestItem> ITEMS = new ConcurrentHashMap<>();
+
+    /**
+     * The parsed quest items by the package and identifier their ID was created from, until the next reload.
+     */
+    private static final Map<ItemReference, QuestItem> REFERENCES = new ConcurrentHashMap<>();
+
     private final BlockSelector selector;
 
     private final DurabilityHandler durability = new DurabilityHandler();
@@ -88,6 +104,12 @@ public class QuestItem {
             durability, name, lore, enchants, book, potion,
             color, head, firework, unbreakable, customModelData, flags);
 
+    /**
+     * Handlers that were set by the instruction, in the order of {@link #compare(ItemStack)}.
+     * Handlers that were not set accept every meta, so they are not checked.
+     */
+    private final List<ItemMetaHandler<? extends ItemMeta>> comparedHandlers;
+
     /**
      * Creates new instance of the quest item using the ID.
      *
@@ -119,6 +141,7 @@ public class QuestItem {
         selector = new BlockSelector(parts[0]);
 
         final Map<String, ItemMetaHandler<?>> keyToHandler = new HashMap<>();
+        final Set<ItemMetaHandler<?>> configured = Collections.newSetFromMap(new IdentityHashMap<>());
         for (final ItemMetaHandler<?> handler : handlers) {
             for (final String key : handler.keys()) {
                 keyToHandler.put(key, handler);
@@ -137,7 +160,62 @@ public class QuestItem {
 
             final ItemMetaHandler<?> handler = Utils.getNN(keyToHandler.get(argumentName), "Unknown argument: " + argumentName);
             handler.set(argumentName, data);
+            configured.add(handler);
+        }
+
+        comparedHandlers = Stream.<ItemMetaHandler<? extends ItemMeta>>of(durability, customModelData, unbreakable, flags, name, lore,
+                        enchants, potion, book, head, color, firework)
+                .filter(configured::contains)
+                .toList();
+    }
+
+    /**
+     * Gets the quest item of the ID. The item is parsed only once until the cache is cleared with
+     * {@link #clearCache()}, so the returned item is shared and must not be changed.
+     *
+     * @param itemID ID of the item
+     * @return the parsed quest item
+     * @throws InstructionParseException when item parsing goes wrong
+     */
+    public static QuestItem get(final ItemID itemID) throws InstructionParseException {
+        final QuestItem cached = ITEMS.get(itemID);
+        if (cached != null) {
+            return cached;
+        }
+        final QuestItem item = new QuestItem(itemID);
+        final QuestItem previous = ITEMS.putIfAbsent(itemID, item);
+        return previous == null ? item : previous;
+    }
+
+    /**
+     * Gets the quest item of the ID created from the package and identifier.
+     * Unlike creating the {@link ItemID} each time, a cached item does not resolve the ID again.
+     *
+     * @param pack       the package the ID is in
+     * @param identifier the id instruction string
+     * @return the parsed quest item
+     * @throws ObjectNotFoundException   if the ID could not be parsed
+     * @throws InstructionParseException when item parsing goes wrong
+     * @see #get(ItemID)
+     */
+    public static QuestItem get(@Nullable final QuestPackage pack, final String identifier)
+            throws ObjectNotFoundException, InstructionParseException {
+        final ItemReference reference = new ItemReference(pack, identifier);
+        final QuestItem cached = REFERENCES.get(reference);
+        if (cached != null) {
+            return cached;
         }
+        final QuestItem item = get(new ItemID(pack, identifier));
+        REFERENCES.putIfAbsent(reference, item);
+        return item;
+    }
+
+    /**
+     * Removes all cached quest items, so they are parsed again from the reloaded packages.
+     */
+    public static void clearCache() {
+        ITEMS.clear();
+        REFERENCES.clear();
     }
 
     /**
@@ -212,18 +290,16 @@ public class QuestItem {
         if (!selector.match(item.getType())) {
             return false;
         }
-        // basic meta checks
+        if (comparedHandlers.isEmpty()) {
+            return true;
+        }
+        // basic meta checks, getting the meta copies it, so it is only done when a handler needs it
         final ItemMeta meta = item.getItemMeta();
         if (meta == null) {
             return true;
         }
 
-        final List<ItemMetaHandler<? extends ItemMeta>> orderedCompare = List.of(
-                durability, customModelData, unbreakable, flags, name, lore,
-                enchants, potion, book, head, color, firework
-        );
-
-        for (final ItemMetaHandler<? extends ItemMeta> handler : orderedCompare) {
+        for (final ItemMetaHandler<? extends ItemMeta> handler : comparedHandlers) {
             if (!handler.rawCheck(meta)) {
                 return false;
             }
@@ -410,6 +486,15 @@ public class QuestItem {
         return flags.get();
     }
 
+    /**
+     * The package and identifier an {@link ItemID} is created from.
+     *
+     * @param pack       the package the ID is in
+     * @param identifier the id instruction string
+     */
+    private record ItemReference(@Nullable QuestPackage pack, String identifier) {
+    }
+
     public enum Existence {
         REQUIRED, FORBIDDEN, WHATEVER
     }
@@ -179,7 +179,7 @@ public class MenuItem extends SimpleYMLSection {
     private boolean executeEvents(final List<EventID> variables, final Player player) {
         final OnlineProfile profile = PlayerConverter.getID(player);
         for (final EventID eventID : variables) {
-            log.debug(pack, "Item " + name + ": Run event " + eventID);
+            log.debug(pack, () -> "Item " + name + ": Run event " + eventID);
             BetonQuest.event(profile, eventID);
         }
         return this.close;
@@ -194,9 +194,9 @@ public class MenuItem extends SimpleYMLSection {
     public boolean display(final Profile profile) {
         for (final ConditionID condition : this.conditions) {
             if (BetonQuest.condition(profile, condition)) {
-                log.debug(pack, "Item " + name + ": condition " + condition + " returned true");
+                log.debug(pack, () -> "Item " + name + ": condition " + condition + " returned true");
             } else {
-                log.debug(pack, "Item " + name + " wont be displayed: condition" + condition + " returned false.");
+                log.debug(pack, () -> "Item " + name + " wont be displayed: condition" + condition + " returned false.");
                 return false;
             }
         }
@@ -298,7 +298,7 @@ public class MenuItem extends SimpleYMLSection {
         private final VariableNumber amount;
 
         public Item(final ItemID itemID, final VariableNumber amount) throws InstructionParseException {
-            this.questItem = new QuestItem(itemID);
+            this.questItem = QuestItem.get(itemID);
             this.amount = amount;
         }
 
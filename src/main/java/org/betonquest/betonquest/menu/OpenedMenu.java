@@ -154,7 +154,7 @@ public class OpenedMenu implements Listener {
         for (int i = 0; i < items.length; i++) {
             content[i] = (items[i] == null) ? new ItemStack(Material.AIR) : items[i].generateItem(onlineProfile);
         }
-        log.debug(getId().getPackage(), "updated contents of menu " + getId() + " for " + onlineProfile);
+        log.debug(getId().getPackage(), () -> "updated contents of menu " + getId() + " for " + onlineProfile);
         inventory.setContents(content);
     }
 
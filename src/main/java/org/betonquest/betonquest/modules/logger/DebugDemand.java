@@ -0,0 +1,68 @@
+package org.betonquest.betonquest.modules.logger;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks whether any handler currently needs debug records, so loggers can skip building debug messages nobody reads.
+ * <p>
+ * As long as no source was added, debug records are always needed.
+ * <p>
+ * This class is thread safe.
+ */
+public class DebugDemand {
+    /**
+     * The sources that may need debug records.
+     */
+    private final List<Source> sources = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new demand without any source.
+     */
+    public DebugDemand() {
+    }
+
+    /**
+     * Adds a source that may need debug records.
+     *
+     * @param source the source
+     */
+    public void addSource(final Source source) {
+        sources.add(source);
+    }
+
+    /**
+     * Checks if any source needs debug records of the package.
+     *
+     * @param pack the related {@link QuestPackage} or null
+     * @return true if a debug record would be used or if there is no source at all
+     */
+    public boolean isRequired(@Nullable final QuestPackage pack) {
+        if (sources.isEmpty()) {
+            return true;
+        }
+        for (final Source source : sources) {
+            if (source.requiresDebug(pack)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Something that may need debug records.
+     */
+    @FunctionalInterface
+    public interface Source {
+        /**
+         * Checks if debug records of the package are needed.
+         *
+         * @param pack the related {@link QuestPackage} or null
+         * @return true if a debug record would be used
+         */
+        boolean requiresDebug(@Nullable QuestPackage pack);
+    }
+}
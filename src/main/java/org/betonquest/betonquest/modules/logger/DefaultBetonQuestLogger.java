@@ -25,7 +25,12 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
     private final Logger logger;
 
     /**
-     * Creates a decorator for the {@link TopicLogger}.
+     * Whether debug records are needed.
+     */
+    private final DebugDemand debugDemand;
+
+    /**
+     * Creates a decorator for the {@link TopicLogger} that always builds debug records.
      *
      * @param plugin       The {@link Plugin} this logger belongs to.
      * @param parentLogger The parent logger for this logger.
@@ -33,8 +38,28 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
      * @param topic        The topic of the logger.
      */
     public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic) {
+        this(plugin, parentLogger, clazz, topic, new DebugDemand());
+    }
+
+    /**
+     * Creates a decorator for the {@link TopicLogger}.
+     *
+     * @param plugin       The {@link Plugin} this logger belongs to.
+     * @param parentLogger The parent logger for this logger.
+     * @param clazz        The calling class.
+     * @param topic        The topic of the logger.
+     * @param debugDemand  Whether debug records are needed.
+     */
+    public DefaultBetonQuestLogger(final Plugin plugin, final Logger parentLogger, final Class<?> clazz, @Nullable final String topic,
+                                   final DebugDemand debugDemand) {
         this.plugin = plugin;
         this.logger = new TopicLogger(parentLogger, clazz, topic);
+        this.debugDemand = debugDemand;
+    }
+
+    @Override
+    public boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return debugDemand.isRequired(pack);
     }
 
     @Override
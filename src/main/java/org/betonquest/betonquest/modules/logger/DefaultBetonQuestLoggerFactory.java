@@ -11,9 +11,24 @@ import org.jetbrains.annotations.Nullable;
  */
 public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
     /**
-     * Creates a new instance.
+     * Whether debug records are needed, shared by all created loggers.
+     */
+    private final DebugDemand debugDemand;
+
+    /**
+     * Creates a new instance whose loggers always build debug records.
      */
     public DefaultBetonQuestLoggerFactory() {
+        this(new DebugDemand());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param debugDemand whether debug records are needed, shared by all created loggers
+     */
+    public DefaultBetonQuestLoggerFactory(final DebugDemand debugDemand) {
+        this.debugDemand = debugDemand;
     }
 
     @Override
@@ -25,7 +40,7 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
         }
         for (final Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
             if (plugin.getClass().getClassLoader().equals(clazz.getClassLoader())) {
-                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic);
+                return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), clazz, topic, debugDemand);
             }
         }
         throw new IllegalStateException("The class '" + clazz.getName()
@@ -35,6 +50,6 @@ public class DefaultBetonQuestLoggerFactory implements BetonQuestLoggerFactory {
 
     @Override
     public BetonQuestLogger create(final Plugin plugin, @Nullable final String topic) {
-        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic);
+        return new DefaultBetonQuestLogger(plugin, plugin.getLogger(), plugin.getClass(), topic, debugDemand);
     }
 }
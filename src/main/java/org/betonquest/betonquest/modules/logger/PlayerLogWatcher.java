@@ -2,12 +2,14 @@ package org.betonquest.betonquest.modules.logger;
 
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.modules.logger.handler.chat.PlayerPackageReceiverSelector;
 import org.betonquest.betonquest.modules.logger.handler.chat.ReceiverSelectorRegistry;
 import org.betonquest.betonquest.modules.logger.handler.chat.RecordReceiverSelector;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
@@ -15,12 +17,17 @@ import java.util.logging.Level;
 /**
  * Facade to control what players are seeing which log records that are being logged.
  */
-public class PlayerLogWatcher {
+public class PlayerLogWatcher implements DebugDemand.Source {
 
     /**
      * Storage for active selectors for ease of removing / changing them.
      */
-    private final Table<UUID, String, RecordReceiverSelector> activeSelectors;
+    private final Table<UUID, String, PlayerPackageReceiverSelector> activeSelectors;
+
+    /**
+     * Copy of the active selectors that can be read from any thread.
+     */
+    private volatile List<PlayerPackageReceiverSelector> selectorSnapshot;
 
     /**
      * Selector registry that is being controlled by this facade.
@@ -35,6 +42,7 @@ public class PlayerLogWatcher {
      */
     public PlayerLogWatcher(final ReceiverSelectorRegistry selectorRegistry) {
         activeSelectors = HashBasedTable.create();
+        selectorSnapshot = List.of();
         this.selectorRegistry = selectorRegistry;
     }
 
@@ -87,6 +95,7 @@ public class PlayerLogWatcher {
         selectorRegistry.addSelector(newSelector);
         final RecordReceiverSelector oldSelector = activeSelectors.put(subject, packagePattern, newSelector);
         unregisterSelector(oldSelector);
+        selectorSnapshot = List.copyOf(activeSelectors.values());
     }
 
     /**
@@ -99,6 +108,24 @@ public class PlayerLogWatcher {
     public void removeFilter(final UUID subject, final String packagePattern) {
         final RecordReceiverSelector oldSelector = activeSelectors.remove(subject, packagePattern);
         unregisterSelector(oldSelector);
+        selectorSnapshot = List.copyOf(activeSelectors.values());
+    }
+
+    /**
+     * Check whether any player watches debug records of the given package.
+     *
+     * @param pack the related {@link QuestPackage} or null
+     * @return true if a filter of any player matches debug records of the package
+     */
+    @Override
+    public boolean requiresDebug(@Nullable final QuestPackage pack) {
+        final String packName = pack == null ? "" : pack.getQuestPath();
+        for (final PlayerPackageReceiverSelector selector : selectorSnapshot) {
+            if (selector.matches(Level.FINE, packName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void unregisterSelector(@Nullable final RecordReceiverSelector oldSelector) {
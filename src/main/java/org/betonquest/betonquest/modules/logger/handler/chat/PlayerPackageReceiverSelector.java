@@ -95,8 +95,18 @@ public class PlayerPackageReceiverSelector implements RecordReceiverSelector {
     }
 
     private boolean match(final LogRecord record) {
-        return isLevelIncluded(record.getLevel())
-                && isPackageIncluded(extractPackage(record));
+        return matches(record.getLevel(), extractPackage(record));
+    }
+
+    /**
+     * Check whether a record with the given level and package would be selected.
+     *
+     * @param level the level of the record
+     * @param pack  the package of the record, an empty string if it is not about any package
+     * @return true if the record matches this selector
+     */
+    public boolean matches(final Level level, final String pack) {
+        return isLevelIncluded(level) && isPackageIncluded(pack);
     }
 
     private String extractPackage(final LogRecord record) {
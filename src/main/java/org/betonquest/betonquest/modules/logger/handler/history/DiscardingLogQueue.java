@@ -18,6 +18,11 @@ public class DiscardingLogQueue implements LogRecordQueue {
         // null object pattern
     }
 
+    @Override
+    public boolean keepsRecords() {
+        return false;
+    }
+
     @Override
     public boolean canPublish() {
         return false;
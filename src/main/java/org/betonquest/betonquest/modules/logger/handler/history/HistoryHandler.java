@@ -1,7 +1,10 @@
 package org.betonquest.betonquest.modules.logger.handler.history;
 
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.modules.logger.DebugDemand;
 import org.betonquest.betonquest.modules.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.utils.WriteOperation;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.concurrent.locks.Lock;
@@ -18,7 +21,7 @@ import java.util.logging.LogRecord;
  * The history can then be pushed to the target handler at any time.
  * It is automatically pushed if the filter returns true for any subsequent LogRecord.
  */
-public class HistoryHandler extends Handler implements LogPublishingController {
+public class HistoryHandler extends Handler implements LogPublishingController, DebugDemand.Source {
     /**
      * The message printed before the history is printed.
      */
@@ -52,7 +55,7 @@ public class HistoryHandler extends Handler implements LogPublishingController {
     /**
      * Whether debugging is enabled.
      */
-    private boolean logging;
+    private volatile boolean logging;
 
     /**
      * Creates a new {@link HistoryHandler}.
@@ -94,6 +97,17 @@ public class HistoryHandler extends Handler implements LogPublishingController {
         }
     }
 
+    /**
+     * Debug records are needed while logging or if the history keeps them.
+     *
+     * @param pack the related {@link QuestPackage} or null
+     * @return true if a debug record would be logged or kept
+     */
+    @Override
+    public boolean requiresDebug(@Nullable final QuestPackage pack) {
+        return isLogging() || recordQueue.keepsRecords();
+    }
+
     @Override
     public void flush() {
         target.flush();
@@ -23,6 +23,15 @@ public interface LogRecordQueue {
      */
     boolean canPublish();
 
+    /**
+     * Check whether pushed records are kept, so they may be published later.
+     *
+     * @return true if pushed records are kept; false if they are discarded
+     */
+    default boolean keepsRecords() {
+        return true;
+    }
+
     /**
      * Publish the next record in the queue.
      *
@@ -11,24 +11,42 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.utils.PlayerConverter;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
+ * <p>
+ * Each distinct set of conditions is checked once per player and update, the players meeting it are stored as
+ * a {@link BitSet} over the online players. The players a source should not see are combined from these bitsets
+ * and compared to the previous update, so only pairs whose visibility changed cause a Bukkit call.
  */
 public class PlayerHider {
     /**
-     * The map's key is an array containing the source {@link Profile}'s conditions
-     * and the map's value is an array containing the target {@link Profile}'s conditions.
+     * The distinct condition sets used by the hiders.
      */
-    private final Map<ConditionID[], ConditionID[]> hiders;
+    private final List<ConditionID[]> conditionSets;
+
+    /**
+     * The hiders, referencing the condition sets by their index.
+     */
+    private final List<Hider> hiders;
+
+    /**
+     * The players each online player currently does not see by their UUID.
+     * Players missing in this map were not updated yet.
+     */
+    private final Map<UUID, Set<UUID>> hiddenPlayers;
 
     /**
      * The running hider.
@@ -42,8 +60,11 @@ public class PlayerHider {
      * @throws InstructionParseException Thrown if there is a configuration error.
      */
     public PlayerHider(final BetonQuest betonQuest) throws InstructionParseException {
-        hiders = new HashMap<>();
+        conditionSets = new ArrayList<>();
+        hiders = new ArrayList<>();
+        hiddenPlayers = new HashMap<>();
 
+        final Map<List<ConditionID>, Integer> conditionSetIndices = new HashMap<>();
         for (final QuestPackage pack : Config.getPackages().values()) {
             final ConfigurationSection hiderSection = pack.getConfig().getConfigurationSection("player_hider");
             if (hiderSection == null) {
@@ -52,7 +73,9 @@ public class PlayerHider {
             for (final String key : hiderSection.getKeys(false)) {
                 final String rawConditionsSource = hiderSection.getString(key + ".source_player");
                 final String rawConditionsTarget = hiderSection.getString(key + ".target_player");
-                hiders.put(getConditions(pack, key, rawConditionsSource), getConditions(pack, key, rawConditionsTarget));
+                final int source = getConditionSetIndex(conditionSetIndices, getConditions(pack, key, rawConditionsSource));
+                final int target = getConditionSetIndex(conditionSetIndices, getConditions(pack, key, rawConditionsTarget));
+                hiders.add(new Hider(source, target));
             }
         }
 
@@ -67,6 +90,13 @@ public class PlayerHider {
         bukkitTask.cancel();
     }
 
+    private int getConditionSetIndex(final Map<List<ConditionID>, Integer> conditionSetIndices, final ConditionID... conditions) {
+        return conditionSetIndices.computeIfAbsent(List.of(conditions), key -> {
+            conditionSets.add(conditions);
+            return conditionSets.size() - 1;
+        });
+    }
+
     private ConditionID[] getConditions(final QuestPackage pack, final String key, @Nullable final String rawConditions) throws InstructionParseException {
         if (rawConditions == null) {
             return new ConditionID[0];
@@ -88,53 +118,97 @@ public class PlayerHider {
      * Trigger an update for the visibility.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        final List<OnlineProfile> onlineProfiles = new ArrayList<>(PlayerConverter.getOnlineProfiles());
+        final BitSet[] profilesToHide = getProfilesToHide(onlineProfiles);
+        final Map<UUID, Player> onlinePlayers = new HashMap<>();
+        for (final OnlineProfile profile : onlineProfiles) {
+            onlinePlayers.put(profile.getPlayerUUID(), profile.getPlayer());
+        }
+        hiddenPlayers.keySet().retainAll(onlinePlayers.keySet());
+        for (int i = 0; i < onlineProfiles.size(); i++) {
+            updateVisibilityForProfile(onlineProfiles, onlinePlayers, onlineProfiles.get(i).getPlayer(), profilesToHide[i]);
         }
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source, @Nullable final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+    private void updateVisibilityForProfile(final List<OnlineProfile> onlineProfiles, final Map<UUID, Player> onlinePlayers,
+                                            final Player source, @Nullable final BitSet profilesToHide) {
+        final Set<UUID> hidden = new HashSet<>();
+        if (profilesToHide != null) {
+            for (int target = profilesToHide.nextSetBit(0); target >= 0; target = profilesToHide.nextSetBit(target + 1)) {
+                hidden.add(onlineProfiles.get(target).getPlayerUUID());
             }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(BetonQuest.getInstance(), target.getPlayer());
+        }
+        final Set<UUID> previouslyHidden = hiddenPlayers.get(source.getUniqueId());
+        if (previouslyHidden == null) {
+            for (final Player target : onlinePlayers.values()) {
+                if (hidden.contains(target.getUniqueId())) {
+                    source.hidePlayer(BetonQuest.getInstance(), target);
                 } else {
-                    source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+                    source.showPlayer(BetonQuest.getInstance(), target);
+                }
+            }
+        } else {
+            for (final UUID target : hidden) {
+                if (!previouslyHidden.contains(target)) {
+                    source.hidePlayer(BetonQuest.getInstance(), onlinePlayers.get(target));
+                }
+            }
+            for (final UUID target : previouslyHidden) {
+                final Player targetPlayer = onlinePlayers.get(target);
+                if (targetPlayer == null) {
+                    hidden.add(target);
+                } else if (!hidden.contains(target)) {
+                    source.showPlayer(BetonQuest.getInstance(), targetPlayer);
                 }
             }
         }
+        hiddenPlayers.put(source.getUniqueId(), hidden);
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
-        for (final Map.Entry<ConditionID[], ConditionID[]> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (BetonQuest.conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
-                }
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private BitSet[] getProfilesToHide(final List<OnlineProfile> onlineProfiles) {
+        final BitSet[] matchingProfiles = new BitSet[conditionSets.size()];
+        for (int set = 0; set < conditionSets.size(); set++) {
+            matchingProfiles[set] = getMatchingProfiles(onlineProfiles, conditionSets.get(set));
+        }
+        final BitSet[] profilesToHide = new BitSet[onlineProfiles.size()];
+        for (final Hider hider : hiders) {
+            final BitSet sources = matchingProfiles[hider.source()];
+            final BitSet targets = matchingProfiles[hider.target()];
+            if (targets.isEmpty()) {
+                continue;
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!BetonQuest.conditions(source, hider.getKey())) {
-                    continue;
+            for (int source = sources.nextSetBit(0); source >= 0; source = sources.nextSetBit(source + 1)) {
+                if (profilesToHide[source] == null) {
+                    profilesToHide[source] = new BitSet(onlineProfiles.size());
                 }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
+                profilesToHide[source].or(targets);
+            }
+        }
+        for (int source = 0; source < profilesToHide.length; source++) {
+            if (profilesToHide[source] != null) {
+                profilesToHide[source].clear(source);
             }
         }
         return profilesToHide;
     }
 
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+    private BitSet getMatchingProfiles(final List<OnlineProfile> onlineProfiles, final ConditionID... conditions) {
+        final BitSet matching = new BitSet(onlineProfiles.size());
+        for (int i = 0; i < onlineProfiles.size(); i++) {
+            if (BetonQuest.conditions(onlineProfiles.get(i), conditions)) {
+                matching.set(i);
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * A configured hider.
+     *
+     * @param source the index of the conditions the source player must meet
+     * @param target the index of the conditions the target player must meet
+     */
+    private record Hider(int source, int target) {
     }
 }
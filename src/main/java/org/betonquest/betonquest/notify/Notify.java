@@ -18,6 +18,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressWarnings("PMD.CommentRequired")
 public final class Notify {
@@ -28,6 +29,11 @@ public final class Notify {
 
     private static final Map<String, Map<String, String>> CATEGORY_SETTINGS = new HashMap<>();
 
+    /**
+     * The built NotifyIOs by package, category and data, so they are not constructed for every notification.
+     */
+    private static final Map<NotifyKey, NotifyIO> NOTIFY_IOS = new ConcurrentHashMap<>();
+
     @Nullable
     private static String defaultNotifyIO;
 
@@ -40,6 +46,7 @@ public final class Notify {
      * @param config the {@link ConfigurationFile} to load from
      */
     public static void load(final ConfigurationFile config) {
+        NOTIFY_IOS.clear();
         loadCategorySettings();
         defaultNotifyIO = config.getString("default_notify_IO");
     }
@@ -57,6 +64,17 @@ public final class Notify {
     }
 
     public static NotifyIO get(final QuestPackage pack, @Nullable final String category, @Nullable final Map<String, String> data) {
+        final NotifyIO cached = NOTIFY_IOS.get(new NotifyKey(pack, category, data));
+        if (cached != null) {
+            return cached;
+        }
+        final NotifyIO notifyIO = build(pack, category, data);
+        final NotifyIO previous = NOTIFY_IOS.putIfAbsent(
+                new NotifyKey(pack, category, data == null ? null : new HashMap<>(data)), notifyIO);
+        return previous == null ? notifyIO : previous;
+    }
+
+    private static NotifyIO build(final QuestPackage pack, @Nullable final String category, @Nullable final Map<String, String> data) {
         final SortedSet<String> categories = getCategories(category);
 
         final Map<String, String> categoryData = getCategorySettings(categories);
@@ -156,4 +174,14 @@ public final class Notify {
         CATEGORY_SETTINGS.clear();
         CATEGORY_SETTINGS.putAll(settings);
     }
+
+    /**
+     * Identifies a built NotifyIO.
+     *
+     * @param pack     the package of the notification
+     * @param category the categories of the notification
+     * @param data     the data overriding the category settings
+     */
+    private record NotifyKey(QuestPackage pack, @Nullable String category, @Nullable Map<String, String> data) {
+    }
 }
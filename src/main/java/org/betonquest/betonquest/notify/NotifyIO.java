@@ -11,7 +11,14 @@ import org.bukkit.entity.Player;
 
 import java.util.HashMap;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends notifications to players.
+ * <p>
+ * Instances are cached by {@link Notify} and reused for all notifications with the same settings,
+ * so implementations must not keep state between notifications and must be thread safe.
+ */
 @SuppressWarnings("PMD.CommentRequired")
 public abstract class NotifyIO {
     protected static final String CATCH_MESSAGE_FLOAT = "%s '%s' couldn't be parsed, it is not a valid floating point number!";
@@ -26,6 +33,11 @@ public abstract class NotifyIO {
 
     private final NotifySound sound;
 
+    /**
+     * The parsed variables of the data by key.
+     */
+    private final Map<String, VariableNumber> variableData = new ConcurrentHashMap<>();
+
     protected NotifyIO(final QuestPackage pack) throws InstructionParseException {
         this(pack, new HashMap<>());
     }
@@ -68,7 +80,7 @@ public abstract class NotifyIO {
         if (dataString == null) {
             return defaultData;
         } else if (dataString.startsWith("%")) {
-            return new VariableNumber(pack, dataString).getValue(PlayerConverter.getID(player)).floatValue();
+            return getVariableData(dataKey, dataString).getValue(PlayerConverter.getID(player)).floatValue();
         }
         try {
             return Float.parseFloat(dataString);
@@ -77,6 +89,16 @@ public abstract class NotifyIO {
         }
     }
 
+    private VariableNumber getVariableData(final String dataKey, final String dataString) throws InstructionParseException {
+        final VariableNumber parsed = variableData.get(dataKey);
+        if (parsed != null) {
+            return parsed;
+        }
+        final VariableNumber variable = new VariableNumber(pack, dataString);
+        variableData.put(dataKey, variable);
+        return variable;
+    }
+
     protected final int getIntegerData(final String dataKey, final int defaultData) throws InstructionParseException {
         final String dataString = data.get(dataKey);
         try {
@@ -1,21 +1,25 @@
 package org.betonquest.betonquest.objectives;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.Instruction;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.utils.PlayerConverter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.event.vehicle.VehicleMoveEvent;
@@ -23,6 +27,7 @@ import org.bukkit.event.vehicle.VehicleMoveEvent;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -31,8 +36,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * to handle all movements of players in the game.
  * This abstract class serves as a base for objectives that are completed
  * when a player enters or exits a specific location.
- * It listens for various player events such as join, quit, death, respawn, teleport, and movement
- * to check the player's location.
+ * It listens for various player events such as join, death, respawn, teleport, and movement
+ * to check the player's location. Movements within the same block are ignored.
  */
 public abstract class AbstractLocationObjective extends Objective implements Listener {
     /**
@@ -72,87 +77,91 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
     }
 
     /**
-     * The onPlayerJoin method listens for the PlayerJoinEvent and checks the player's location.
-     *
-     * @param event the PlayerJoinEvent to be used in the method
+     * Subscribes to the player events and registers the vehicle listener.
+     * Subclasses overriding this method have to call it.
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerJoin(final PlayerJoinEvent event) {
-        checkLocation(event.getPlayer(), event.getPlayer().getLocation());
+    @Override
+    public void start() {
+        subscribe(PlayerJoinEvent.class, EventPriority.NORMAL, PlayerJoinEvent::getPlayer, this::onPlayerJoin);
+        subscribe(PlayerDeathEvent.class, EventPriority.NORMAL, PlayerDeathEvent::getEntity, this::onPlayerDeath);
+        subscribe(PlayerRespawnEvent.class, EventPriority.NORMAL, PlayerRespawnEvent::getPlayer, this::onPlayerRespawn);
+        subscribe(PlayerTeleportEvent.class, EventPriority.NORMAL, PlayerTeleportEvent::getPlayer, this::onPlayerTeleport);
+        subscribe(PlayerMoveEvent.class, EventPriority.NORMAL, PlayerMoveEvent::getPlayer, this::onPlayerMove);
+        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
     }
 
     /**
-     * The onPlayerQuit method listens for the PlayerQuitEvent and removes the player from the playersInsideRegion map.
-     *
-     * @param event the PlayerQuitEvent to be used in the method
+     * Removes the subscriptions and unregisters the vehicle listener.
+     * Subclasses overriding this method have to call it.
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerQuit(final PlayerQuitEvent event) {
-        playersInsideRegion.remove(PlayerConverter.getID(event.getPlayer()).getProfileUUID());
+    @Override
+    public void stop() {
+        unsubscribe();
+        HandlerList.unregisterAll(this);
     }
 
     /**
-     * The onPlayerDeath method listens for the PlayerDeathEvent and checks the player's location.
+     * Forgets whether the player was inside the location when the objective stops for them, for example on quit.
      *
-     * @param event the PlayerDeathEvent to be used in the method
+     * @param profile the {@link Profile} of the player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerDeath(final PlayerDeathEvent event) {
-        checkLocation(event.getEntity(), event.getEntity().getLocation());
+    @Override
+    public void stop(final Profile profile) {
+        playersInsideRegion.remove(profile.getProfileUUID());
     }
 
-    /**
-     * The onPlayerRespawn method listens for the PlayerRespawnEvent and checks the player's location.
-     *
-     * @param event the PlayerRespawnEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerRespawn(final PlayerRespawnEvent event) {
-        checkLocation(event.getPlayer(), event.getRespawnLocation());
+    private void onPlayerJoin(final PlayerJoinEvent event, final OnlineProfile onlineProfile) {
+        checkLocation(onlineProfile, event.getPlayer().getLocation());
     }
 
-    /**
-     * The onPlayerTeleport method listens for the PlayerTeleportEvent and checks the player's location.
-     *
-     * @param event the PlayerTeleportEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerTeleport(final PlayerTeleportEvent event) {
-        onPlayerMove(event);
+    private void onPlayerDeath(final PlayerDeathEvent event, final OnlineProfile onlineProfile) {
+        checkLocation(onlineProfile, event.getEntity().getLocation());
     }
 
-    /**
-     * The onPlayerMove method listens for the PlayerMoveEvent and checks the player's location.
-     *
-     * @param event the PlayerMoveEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-        checkLocation(event.getPlayer(), event.getTo());
+    private void onPlayerRespawn(final PlayerRespawnEvent event, final OnlineProfile onlineProfile) {
+        checkLocation(onlineProfile, event.getRespawnLocation());
+    }
+
+    private void onPlayerTeleport(final PlayerTeleportEvent event, final OnlineProfile onlineProfile) {
+        if (!event.isCancelled()) {
+            checkLocation(onlineProfile, event.getTo());
+        }
+    }
+
+    private void onPlayerMove(final PlayerMoveEvent event, final OnlineProfile onlineProfile) {
+        if (!event.isCancelled() && !isSameBlock(event.getFrom(), event.getTo())) {
+            checkLocation(onlineProfile, event.getTo());
+        }
     }
 
     /**
-     * The onVehicleMove method listens for the VehicleMoveEvent and checks the player's location.
+     * The onVehicleMove method listens for the VehicleMoveEvent and checks the location of the passengers.
      *
      * @param event the VehicleMoveEvent to be used in the method
      */
     @EventHandler(ignoreCancelled = true)
     public void onVehicleMove(final VehicleMoveEvent event) {
+        if (isSameBlock(event.getFrom(), event.getTo())) {
+            return;
+        }
         final List<Entity> passengers = event.getVehicle().getPassengers();
         for (final Entity passenger : passengers) {
             if (passenger instanceof final Player player) {
-                checkLocation(player, event.getTo());
+                final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+                if (containsPlayer(onlineProfile)) {
+                    checkLocation(onlineProfile, event.getTo());
+                }
             }
         }
     }
 
-    private void checkLocation(final Player player, final Location location) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-        if (!containsPlayer(onlineProfile)) {
-            return;
-        }
+    private boolean isSameBlock(final Location from, final Location to) {
+        return from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && Objects.equals(from.getWorld(), to.getWorld());
+    }
 
-        final boolean toInside = isInsideHandleException(location, onlineProfile);
+    private void checkLocation(final OnlineProfile onlineProfile, final Location location) {
+        final boolean toInside = mayBeInside(location) && isInsideHandleException(location, onlineProfile);
         if (!entry && !exit) {
             if (toInside && checkConditions(onlineProfile)) {
                 completeObjective(onlineProfile);
@@ -184,6 +193,17 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
         return toInsideAtomic.get();
     }
 
+    /**
+     * Cheap check if the location can be inside at all, used to skip {@link #isInside(OnlineProfile, Location)} for
+     * locations far away. Objectives with a static area can override this, the default never skips the check.
+     *
+     * @param location the location to be checked
+     * @return false if the location is definitely outside, true if it has to be checked
+     */
+    protected boolean mayBeInside(final Location location) {
+        return true;
+    }
+
     /**
      * Checks if the player at the given location is inside the location.
      *
@@ -11,16 +11,11 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.utils.BlockSelector;
-import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.EquipmentSlot;
@@ -36,7 +31,7 @@ import static org.bukkit.event.block.Action.RIGHT_CLICK_BLOCK;
  * them is supported.
  */
 @SuppressWarnings({"PMD.GodClass", "PMD.CommentRequired"})
-public class ActionObjective extends Objective implements Listener {
+public class ActionObjective extends Objective {
     /**
      * The key for the location property.
      */
@@ -96,10 +91,8 @@ public class ActionObjective extends Objective implements Listener {
     }
 
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onInteract(final PlayerInteractEvent event) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (!containsPlayer(onlineProfile) || !action.match(event.getAction()) || slot != null && slot != event.getHand()) {
+    private void onInteract(final PlayerInteractEvent event, final OnlineProfile onlineProfile) {
+        if (!action.match(event.getAction()) || slot != null && slot != event.getHand()) {
             return;
         }
 
@@ -139,12 +132,12 @@ public class ActionObjective extends Objective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        subscribe(PlayerInteractEvent.class, EventPriority.LOWEST, PlayerInteractEvent::getPlayer, this::onInteract);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        unsubscribe();
     }
 
     @Override
@@ -10,13 +10,8 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.utils.BlockSelector;
-import org.betonquest.betonquest.utils.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.jetbrains.annotations.Nullable;
@@ -26,7 +21,7 @@ import org.jetbrains.annotations.Nullable;
  * (breaking when should be placing) will reverse the progress.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.AvoidDuplicateLiterals"})
-public class BlockObjective extends CountingObjective implements Listener {
+public class BlockObjective extends CountingObjective {
     /**
      * Blockselector parameter.
      */
@@ -76,13 +71,11 @@ public class BlockObjective extends CountingObjective implements Listener {
         ignorecancel = instruction.hasArgument("ignorecancel");
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onBlockPlace(final BlockPlaceEvent event) {
+    private void onBlockPlace(final BlockPlaceEvent event, final OnlineProfile onlineProfile) {
         if (event.isCancelled() && !ignorecancel) {
             return;
         }
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile) && selector.match(event.getBlock(), exactMatch) && checkConditions(onlineProfile)) {
+        if (selector.match(event.getBlock(), exactMatch) && checkConditions(onlineProfile)) {
             if (!checkLocation(event.getBlock().getLocation(), onlineProfile)) {
                 return;
             }
@@ -93,13 +86,11 @@ public class BlockObjective extends CountingObjective implements Listener {
         }
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onBlockBreak(final BlockBreakEvent event) {
+    private void onBlockBreak(final BlockBreakEvent event, final OnlineProfile onlineProfile) {
         if (event.isCancelled() && !ignorecancel) {
             return;
         }
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile) && selector.match(event.getBlock(), exactMatch) && checkConditions(onlineProfile)) {
+        if (selector.match(event.getBlock(), exactMatch) && checkConditions(onlineProfile)) {
             if (!checkLocation(event.getBlock().getLocation(), onlineProfile)) {
                 return;
             }
@@ -117,12 +108,13 @@ public class BlockObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        subscribe(BlockPlaceEvent.class, EventPriority.HIGHEST, BlockPlaceEvent::getPlayer, this::onBlockPlace);
+        subscribe(BlockBreakEvent.class, EventPriority.HIGHEST, BlockBreakEvent::getPlayer, this::onBlockBreak);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        unsubscribe();
     }
 
     private boolean checkLocation(final Location loc, final Profile profile) {
@@ -8,9 +8,9 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Player has to reach certain radius around the specified location
@@ -31,6 +31,12 @@ public class LocationObjective extends AbstractLocationObjective {
      */
     private final VariableNumber range;
 
+    /**
+     * The area to reach if neither the location nor the range contain variables, otherwise null.
+     */
+    @Nullable
+    private final StaticArea staticArea;
+
     /**
      * The constructor takes an Instruction object as a parameter and throws an InstructionParseException.
      *
@@ -41,10 +47,27 @@ public class LocationObjective extends AbstractLocationObjective {
         super(BetonQuest.getInstance().getLoggerFactory().create(LocationObjective.class), instruction);
         loc = instruction.getLocation();
         range = instruction.getVarNum();
+        staticArea = loc.isConstant() && range.isConstant() ? createStaticArea() : null;
+    }
+
+    private StaticArea createStaticArea() throws InstructionParseException {
+        try {
+            return StaticArea.of(loc.getValue(null), range.getValue(null).doubleValue());
+        } catch (final QuestRuntimeException e) {
+            throw new InstructionParseException("Could not resolve the location: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected boolean mayBeInside(final Location location) {
+        return staticArea == null || staticArea.overlapsChunk(location);
     }
 
     @Override
     protected boolean isInside(final OnlineProfile onlineProfile, final Location location) throws QuestRuntimeException {
+        if (staticArea != null) {
+            return staticArea.contains(location);
+        }
         final Location targetLocation = loc.getValue(onlineProfile);
         if (!location.getWorld().equals(targetLocation.getWorld())) {
             return false;
@@ -53,16 +76,6 @@ public class LocationObjective extends AbstractLocationObjective {
         return location.distanceSquared(targetLocation) <= pRange * pRange;
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
@@ -84,4 +97,61 @@ public class LocationObjective extends AbstractLocationObjective {
         return "";
     }
 
+    /**
+     * A sphere that does not depend on the profile, with the chunks it overlaps.
+     *
+     * @param world        the world of the sphere
+     * @param centerX      the x coordinate of the center
+     * @param centerY      the y coordinate of the center
+     * @param centerZ      the z coordinate of the center
+     * @param rangeSquared the squared radius
+     * @param minChunkX    the lowest chunk x coordinate overlapped by the sphere
+     * @param maxChunkX    the highest chunk x coordinate overlapped by the sphere
+     * @param minChunkZ    the lowest chunk z coordinate overlapped by the sphere
+     * @param maxChunkZ    the highest chunk z coordinate overlapped by the sphere
+     */
+    private record StaticArea(World world, double centerX, double centerY, double centerZ, double rangeSquared,
+                              int minChunkX, int maxChunkX, int minChunkZ, int maxChunkZ) {
+        /**
+         * Creates the area for a location and range.
+         *
+         * @param center the center of the area
+         * @param range  the radius of the area
+         * @return the area
+         */
+        private static StaticArea of(final Location center, final double range) {
+            return new StaticArea(center.getWorld(), center.getX(), center.getY(), center.getZ(), range * range,
+                    Location.locToBlock(center.getX() - range) >> 4, Location.locToBlock(center.getX() + range) >> 4,
+                    Location.locToBlock(center.getZ() - range) >> 4, Location.locToBlock(center.getZ() + range) >> 4);
+        }
+
+        /**
+         * Checks if the chunk of the location is overlapped by this area.
+         *
+         * @param location the location to check
+         * @return true if the chunk of the location overlaps this area
+         */
+        private boolean overlapsChunk(final Location location) {
+            final int chunkX = location.getBlockX() >> 4;
+            final int chunkZ = location.getBlockZ() >> 4;
+            return chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ
+                    && world.equals(location.getWorld());
+        }
+
+        /**
+         * Checks if the location is inside this area.
+         *
+         * @param location the location to check
+         * @return true if the location is inside
+         */
+        private boolean contains(final Location location) {
+            if (!world.equals(location.getWorld())) {
+                return false;
+            }
+            final double deltaX = location.getX() - centerX;
+            final double deltaY = location.getY() - centerY;
+            final double deltaZ = location.getZ() - centerZ;
+            return deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ <= rangeSquared;
+        }
+    }
 }
@@ -39,7 +39,7 @@ public class ArmorConditionFactory implements PlayerConditionFactory {
 
     @Override
     public PlayerCondition parsePlayer(final Instruction instruction) throws InstructionParseException {
-        final QuestItem armorItem = new QuestItem(instruction.getItem());
+        final QuestItem armorItem = QuestItem.get(instruction.getItem());
         final BetonQuestLogger log = loggerFactory.create(ArmorCondition.class);
         return new PrimaryServerThreadPlayerCondition(
                 new OnlineConditionAdapter(new ArmorCondition(armorItem), log, instruction.getPackage()), data);
@@ -39,7 +39,7 @@ public class HandConditionFactory implements PlayerConditionFactory {
 
     @Override
     public PlayerCondition parsePlayer(final Instruction instruction) throws InstructionParseException {
-        final QuestItem questItem = new QuestItem(instruction.getItem());
+        final QuestItem questItem = QuestItem.get(instruction.getItem());
         final boolean offhand = instruction.hasArgument("offhand");
         final BetonQuestLogger log = loggerFactory.create(HandCondition.class);
         return new PrimaryServerThreadPlayerCondition(
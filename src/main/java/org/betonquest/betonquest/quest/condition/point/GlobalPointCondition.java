@@ -8,7 +8,7 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * A condition that checks if global data has a certain amount of points.
@@ -52,11 +52,9 @@ public class GlobalPointCondition implements NullableCondition {
 
     @Override
     public boolean check(@Nullable final Profile profile) throws QuestRuntimeException {
-        final List<Point> points = globalData.getPoints();
-        for (final Point point : points) {
-            if (point.getCategory().equals(category)) {
-                return checkPoints(point.getCount(), profile);
-            }
+        final Optional<Point> point = globalData.getPoint(category);
+        if (point.isPresent() && point.get().getCategory().equals(category)) {
+            return checkPoints(point.get().getCount(), profile);
         }
         return false;
     }
@@ -7,7 +7,7 @@ import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * A condition that checks if a player has a certain amount of points.
@@ -51,11 +51,9 @@ public class PointCondition implements PlayerCondition {
 
     @Override
     public boolean check(final Profile profile) throws QuestRuntimeException {
-        final List<Point> points = betonQuest.getPlayerData(profile).getPoints();
-        for (final Point point : points) {
-            if (point.getCategory().equals(category)) {
-                return checkPoints(point.getCount(), profile);
-            }
+        final Optional<Point> point = betonQuest.getPlayerData(profile).getPoint(category);
+        if (point.isPresent() && point.get().getCategory().equals(category)) {
+            return checkPoints(point.get().getCount(), profile);
         }
         return false;
     }
@@ -50,9 +50,7 @@ public class GlobalPointEvent implements NullableEvent {
 
     @Override
     public void execute(@Nullable final Profile profile) throws QuestRuntimeException {
-        final Optional<org.betonquest.betonquest.Point> globalPoint = globalData.getPoints().stream()
-                .filter(p -> p.getCategory().equalsIgnoreCase(category))
-                .findFirst();
+        final Optional<org.betonquest.betonquest.Point> globalPoint = globalData.getPoint(category);
         globalData.setPoints(category, pointType.modify(
                 globalPoint.map(org.betonquest.betonquest.Point::getCount).orElse(0), count.getValue(profile).doubleValue()));
     }
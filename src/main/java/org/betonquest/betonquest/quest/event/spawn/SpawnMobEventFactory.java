@@ -92,6 +92,6 @@ public class SpawnMobEventFactory implements EventFactory, StaticEventFactory {
     @Nullable
     private QuestItem getQuestItem(final Instruction instruction, final String key) throws InstructionParseException {
         final ItemID item = instruction.getItem(instruction.getOptional(key));
-        return item == null ? null : new QuestItem(item);
+        return item == null ? null : QuestItem.get(item);
     }
 }
@@ -6,6 +6,7 @@ import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
 import org.betonquest.betonquest.api.quest.event.Event;
 import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.quest.PrimaryServerThreadType;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
@@ -49,6 +50,11 @@ public class LegacyConditionAdapter extends org.betonquest.betonquest.api.Condit
         persistent = true;
     }
 
+    @Override
+    public boolean isPrimaryThreadOnly() {
+        return playerCondition instanceof PrimaryServerThreadType || playerlessCondition instanceof PrimaryServerThreadType;
+    }
+
     @Override
     protected Boolean execute(@Nullable final Profile profile) throws QuestRuntimeException {
         if (playerCondition == null || profile == null) {
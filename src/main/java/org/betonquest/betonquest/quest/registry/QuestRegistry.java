@@ -5,6 +5,7 @@ import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
+import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
 import org.betonquest.betonquest.id.ID;
 import org.betonquest.betonquest.modules.schedule.EventScheduling;
@@ -68,7 +69,7 @@ public class QuestRegistry {
      *
      * @param log                 the custom logger for this registry
      * @param loggerFactory       the logger factory used for new custom logger instances
-     * @param plugin              the plugin used to create new conversation data
+     * @param plugin              the plugin used to create new conversation data and register objective listeners
      * @param scheduleTypes       the available schedule types
      * @param questTypeRegistries the available quest types
      * @param objectiveTypes      the available objective types
@@ -79,9 +80,9 @@ public class QuestRegistry {
                          final Map<String, Class<? extends Objective>> objectiveTypes) {
         this.log = log;
         this.eventScheduling = new EventScheduling(loggerFactory.create(EventScheduling.class, "Schedules"), scheduleTypes);
-        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.getConditionTypes());
+        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.getConditionTypes(), plugin);
         this.eventProcessor = new EventProcessor(loggerFactory.create(EventProcessor.class), questTypeRegistries.getEventTypes());
-        this.objectiveProcessor = new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), objectiveTypes);
+        this.objectiveProcessor = new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), objectiveTypes, plugin);
         this.variableProcessor = new VariableProcessor(loggerFactory.create(VariableProcessor.class), questTypeRegistries.getVariableTypes(), loggerFactory);
         this.cancellerProcessor = new CancellerProcessor(loggerFactory.create(CancellerProcessor.class));
         this.conversationProcessor = new ConversationProcessor(loggerFactory.create(ConversationProcessor.class), plugin);
@@ -102,6 +103,7 @@ public class QuestRegistry {
         variableProcessor.clear();
         cancellerProcessor.clear();
         conversationProcessor.clear();
+        clearTickCaches();
 
         for (final QuestPackage pack : packages) {
             final String packName = pack.getQuestPath();
@@ -139,6 +141,34 @@ public class QuestRegistry {
         );
     }
 
+    /**
+     * Enables or disables remembering condition outcomes and variable values for the rest of the tick.
+     *
+     * @param enabled whether results should be remembered
+     */
+    public void setTickMemoization(final boolean enabled) {
+        conditionProcessor.getTickCache().setEnabled(enabled);
+        variableProcessor.getTickCache().setEnabled(enabled);
+    }
+
+    /**
+     * Forgets the condition outcomes and variable values of the profile, because its data changed.
+     *
+     * @param profile the profile whose data changed
+     */
+    public void invalidateTickCaches(final Profile profile) {
+        conditionProcessor.getTickCache().invalidate(profile);
+        variableProcessor.getTickCache().invalidate(profile);
+    }
+
+    /**
+     * Forgets all remembered condition outcomes and variable values.
+     */
+    public void clearTickCaches() {
+        conditionProcessor.getTickCache().clear();
+        variableProcessor.getTickCache().clear();
+    }
+
     /**
      * Stops the {@link EventScheduling} module.
      */
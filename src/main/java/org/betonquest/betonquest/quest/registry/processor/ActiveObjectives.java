@@ -0,0 +1,76 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.profiles.Profile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the active {@link Objective}s by {@link Profile}.
+ * <p>
+ * Objectives register and unregister themselves when they are started or stopped for a profile, so the active
+ * objectives of a profile can be looked up without checking every loaded objective.
+ * <p>
+ * This class is thread safe.
+ */
+public class ActiveObjectives {
+    /**
+     * The active objectives of each profile with at least one active objective.
+     */
+    private final Map<Profile, Set<Objective>> objectives = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new empty index.
+     */
+    public ActiveObjectives() {
+    }
+
+    /**
+     * Marks the objective as active for the profile.
+     *
+     * @param profile   the {@link Profile} the objective was started for
+     * @param objective the started objective
+     */
+    public void add(final Profile profile, final Objective objective) {
+        objectives.compute(profile, (key, active) -> {
+            final Set<Objective> result = active == null ? ConcurrentHashMap.newKeySet() : active;
+            result.add(objective);
+            return result;
+        });
+    }
+
+    /**
+     * Marks the objective as no longer active for the profile.
+     *
+     * @param profile   the {@link Profile} the objective was stopped for
+     * @param objective the stopped objective
+     */
+    public void remove(final Profile profile, final Objective objective) {
+        objectives.computeIfPresent(profile, (key, active) -> {
+            active.remove(objective);
+            return active.isEmpty() ? null : active;
+        });
+    }
+
+    /**
+     * Gets the active objectives of the profile.
+     *
+     * @param profile the {@link Profile} to get the objectives for
+     * @return a new list of the profile's active objectives
+     */
+    public List<Objective> get(final Profile profile) {
+        final Set<Objective> active = objectives.get(profile);
+        return active == null ? new ArrayList<>() : new ArrayList<>(active);
+    }
+
+    /**
+     * Removes all entries. Used when all objectives are closed.
+     */
+    public void clear() {
+        objectives.clear();
+    }
+}
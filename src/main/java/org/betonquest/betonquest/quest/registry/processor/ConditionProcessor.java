@@ -10,25 +10,41 @@ import org.betonquest.betonquest.exceptions.QuestRuntimeException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.quest.registry.type.ConditionTypeRegistry;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Does the logic around Conditions.
  */
 public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Condition> {
+    /**
+     * The outcomes of the conditions in the current tick, before inversion.
+     */
+    private final ProfileTickCache<ConditionID, Boolean> tickCache = new ProfileTickCache<>();
+
+    /**
+     * The plugin to check conditions on the main thread.
+     */
+    private final Plugin plugin;
+
     /**
      * Create a new Condition Processor to store Conditions and checks them.
      *
      * @param log            the custom logger for this class
      * @param conditionTypes the available condition types
+     * @param plugin         the plugin to check conditions on the main thread
      */
-    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes) {
+    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes, final Plugin plugin) {
         super(log, conditionTypes, "Condition", "conditions");
+        this.plugin = plugin;
     }
 
     @Override
@@ -36,6 +52,15 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
         return new ConditionID(pack, identifier);
     }
 
+    /**
+     * Gets the cache remembering condition outcomes for the current tick.
+     *
+     * @return the tick cache of this processor
+     */
+    public ProfileTickCache<ConditionID, Boolean> getTickCache() {
+        return tickCache;
+    }
+
     /**
      * Checks if the conditions described by conditionID are met.
      *
@@ -43,49 +68,94 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
      * @param conditionIDs IDs of the conditions to check
      * @return if all conditions are met
      */
-    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public boolean checks(@Nullable final Profile profile, final ConditionID... conditionIDs) {
-        if (Bukkit.isPrimaryThread()) {
-            for (final ConditionID id : conditionIDs) {
-                if (!check(profile, id)) {
-                    return false;
-                }
+        return checkGroups(profile, List.of(Arrays.asList(conditionIDs)))[0];
+    }
+
+    /**
+     * Checks several groups of conditions, each group is met if all of its conditions are met.
+     * <p>
+     * On the main thread all conditions are checked in place. On other threads the conditions that can be checked
+     * from any thread are checked in place and the remaining ones of all groups are checked together on the main
+     * thread, so they only wait for one tick. A group stops checking at the first condition that is not met.
+     *
+     * @param profile the {@link Profile} of the player which should be checked
+     * @param groups  the groups of condition IDs to check
+     * @return if the conditions of the group are met, in the order of the groups
+     */
+    public boolean[] checkGroups(@Nullable final Profile profile, final List<? extends Collection<ConditionID>> groups) {
+        final boolean[] results = new boolean[groups.size()];
+        if (plugin.getServer().isPrimaryThread()) {
+            for (int group = 0; group < groups.size(); group++) {
+                results[group] = checkInPlace(profile, groups.get(group));
             }
-        } else {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> check(profile, id));
-                conditions.add(future);
+            return results;
+        }
+        final List<List<ConditionID>> primaryThreadConditions = new ArrayList<>(groups.size());
+        boolean primaryThreadNeeded = false;
+        for (int group = 0; group < groups.size(); group++) {
+            final List<ConditionID> deferred = new ArrayList<>();
+            results[group] = checkThreadSafe(profile, groups.get(group), deferred);
+            primaryThreadConditions.add(deferred);
+            primaryThreadNeeded |= results[group] && !deferred.isEmpty();
+        }
+        if (primaryThreadNeeded) {
+            checkOnPrimaryThread(profile, results, primaryThreadConditions);
+        }
+        return results;
+    }
+
+    private boolean checkInPlace(@Nullable final Profile profile, final Collection<ConditionID> conditionIDs) {
+        for (final ConditionID conditionID : conditionIDs) {
+            if (!check(profile, conditionID)) {
+                return false;
             }
-            for (final CompletableFuture<Boolean> condition : conditions) {
-                try {
-                    if (!condition.get()) {
-                        return false;
-                    }
-                } catch (final InterruptedException | ExecutionException e) {
-                    // Currently conditions that are forced to be sync cause every CompletableFuture.get() call
-                    // to delay the check by one tick.
-                    // If this happens during a shutdown, the check will be delayed past the last tick.
-                    // This will throw a CancellationException and IllegalPluginAccessExceptions.
-                    // For Paper, we can detect this and only log it to the debug log.
-                    // When the conditions get reworked, this complete check can be removed including the Spigot message.
-                    if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
-                        log.debug("Exception during shutdown while checking conditions (expected):", e);
-                        return false;
-                    }
-                    if (PaperLib.isSpigot()) {
-                        log.warn("The following exception is only ok when the server is currently stopping."
-                                + "Switch to papermc.io to fix this.");
-                    }
-                    log.reportException(e);
-                    return false;
-                }
+        }
+        return true;
+    }
+
+    private boolean checkThreadSafe(@Nullable final Profile profile, final Collection<ConditionID> conditionIDs,
+                                    final List<ConditionID> deferred) {
+        for (final ConditionID conditionID : conditionIDs) {
+            final Condition condition = values.get(conditionID);
+            if (condition != null && condition.isPrimaryThreadOnly() && tickCache.get(profile, conditionID) == null) {
+                deferred.add(conditionID);
+            } else if (!check(profile, conditionID)) {
+                return false;
             }
         }
         return true;
     }
 
+    private void checkOnPrimaryThread(@Nullable final Profile profile, final boolean[] results,
+                                      final List<List<ConditionID>> primaryThreadConditions) {
+        final boolean[] pending = results.clone();
+        final Future<boolean[]> future = plugin.getServer().getScheduler().callSyncMethod(plugin, () -> {
+            final boolean[] primaryResults = new boolean[pending.length];
+            for (int group = 0; group < pending.length; group++) {
+                primaryResults[group] = pending[group] && checkInPlace(profile, primaryThreadConditions.get(group));
+            }
+            return primaryResults;
+        });
+        try {
+            System.arraycopy(future.get(), 0, results, 0, results.length);
+        } catch (final InterruptedException | ExecutionException | CancellationException e) {
+            Arrays.fill(results, false);
+            // If this happens during a shutdown, the check will be delayed past the last tick.
+            // This will throw a CancellationException and IllegalPluginAccessExceptions.
+            // For Paper, we can detect this and only log it to the debug log.
+            if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
+                log.debug("Exception during shutdown while checking conditions (expected):", e);
+                return;
+            }
+            if (PaperLib.isSpigot()) {
+                log.warn("The following exception is only ok when the server is currently stopping."
+                        + "Switch to papermc.io to fix this.");
+            }
+            log.reportException(e);
+        }
+    }
+
     /**
      * Checks if the condition described by conditionID is met
      *
@@ -109,15 +179,21 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
             log.debug(conditionID.getPackage(), "Player was offline, condition is not persistent, returning false");
             return false;
         }
+        final Boolean cached = tickCache.get(profile, conditionID);
         final boolean outcome;
-        try {
-            outcome = condition.handle(profile);
-        } catch (final QuestRuntimeException e) {
-            log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
-            return false;
+        if (cached == null) {
+            try {
+                outcome = condition.handle(profile);
+            } catch (final QuestRuntimeException e) {
+                log.warn(conditionID.getPackage(), "Error while checking '" + conditionID + "' condition: " + e.getMessage(), e);
+                return false;
+            }
+            tickCache.put(profile, conditionID, outcome);
+        } else {
+            outcome = cached;
         }
         final boolean isMet = outcome != conditionID.inverted();
-        log.debug(conditionID.getPackage(),
+        log.debug(conditionID.getPackage(), () ->
                 (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
                         + conditionID + " for " + profile);
         return isMet;
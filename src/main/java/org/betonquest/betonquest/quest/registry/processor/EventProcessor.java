@@ -44,10 +44,9 @@ public class EventProcessor extends TypedQuestProcessor<EventID, QuestEvent> {
             return false;
         }
         if (profile == null) {
-            log.debug(eventID.getPackage(), "Firing event " + eventID + " player independent");
+            log.debug(eventID.getPackage(), () -> "Firing event " + eventID + " player independent");
         } else {
-            log.debug(eventID.getPackage(),
-                    "Firing event " + eventID + " for " + profile);
+            log.debug(eventID.getPackage(), () -> "Firing event " + eventID + " for " + profile);
         }
         try {
             return event.fire(profile);
@@ -0,0 +1,180 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.utils.PlayerConverter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Dispatches Bukkit events to the {@link Objective}s that are active for the player causing the event.
+ * <p>
+ * Instead of every objective instance registering its own listener, which would be called for every event and then
+ * check on its own whether the player has the objective, the dispatcher registers one listener per event type,
+ * priority and player extractor. It resolves the profile of an event once and only calls the objectives active for
+ * that profile, using the {@link ActiveObjectives} index.
+ * <p>
+ * This class is thread safe.
+ */
+public class ObjectiveEventDispatcher {
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to register the listeners for.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The index of active objectives by profile.
+     */
+    private final ActiveObjectives activeObjectives;
+
+    /**
+     * The registered routes by event type, priority and player extractor.
+     */
+    private final Map<RouteKey, Route<?>> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param log              the logger to report exceptions of the objectives to
+     * @param plugin           the plugin to register the listeners for
+     * @param activeObjectives the index of active objectives by profile
+     */
+    public ObjectiveEventDispatcher(final BetonQuestLogger log, final Plugin plugin, final ActiveObjectives activeObjectives) {
+        this.log = log;
+        this.plugin = plugin;
+        this.activeObjectives = activeObjectives;
+    }
+
+    /**
+     * Subscribes the objective to an event. The handler is only called for events caused by a player who has the
+     * objective active. Cancelled events are passed to the handler as well.
+     * <p>
+     * Objectives sharing a listener need the same player extractor instance, so it should be a method reference or
+     * lambda that does not capture anything, like {@code BlockBreakEvent::getPlayer}.
+     *
+     * @param objective       the objective to subscribe
+     * @param eventClass      the type of the event
+     * @param priority        the priority to listen on
+     * @param playerExtractor gets the player causing the event or null if no player is involved
+     * @param handler         handles the event for the profile of the player
+     * @param <E>             the type of the event
+     */
+    public <E extends Event> void subscribe(final Objective objective, final Class<E> eventClass,
+                                            final EventPriority priority,
+                                            final Function<? super E, Player> playerExtractor,
+                                            final BiConsumer<? super E, OnlineProfile> handler) {
+        final Route<E> route = getRoute(eventClass, priority, playerExtractor);
+        route.handlers.put(objective, handler);
+    }
+
+    /**
+     * Removes all subscriptions of the objective.
+     *
+     * @param objective the objective to unsubscribe
+     */
+    public void unsubscribe(final Objective objective) {
+        for (final Route<?> route : routes.values()) {
+            route.handlers.remove(objective);
+        }
+    }
+
+    /**
+     * Unregisters all listeners and removes all subscriptions.
+     * Listeners are registered again when objectives subscribe after this.
+     */
+    public void close() {
+        for (final Route<?> route : routes.values()) {
+            HandlerList.unregisterAll(route);
+        }
+        routes.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Event> Route<E> getRoute(final Class<E> eventClass, final EventPriority priority,
+                                                final Function<? super E, Player> playerExtractor) {
+        return (Route<E>) routes.computeIfAbsent(new RouteKey(eventClass, priority, playerExtractor), key -> {
+            final Route<E> route = new Route<>(eventClass, playerExtractor);
+            Bukkit.getPluginManager().registerEvent(eventClass, route, priority,
+                    (listener, event) -> route.dispatch(event), plugin, false);
+            return route;
+        });
+    }
+
+    /**
+     * Identifies a route by the event type, the priority it listens on and how it gets the player.
+     *
+     * @param eventClass      the type of the event
+     * @param priority        the priority
+     * @param playerExtractor gets the player causing the event
+     */
+    private record RouteKey(Class<? extends Event> eventClass, EventPriority priority, Function<?, ?> playerExtractor) {
+    }
+
+    /**
+     * The listener for one event type, priority and player extractor, holding the handlers of the subscribed objectives.
+     *
+     * @param <E> the type of the event
+     */
+    private final class Route<E extends Event> implements Listener {
+        /**
+         * The type of the event.
+         */
+        private final Class<E> eventClass;
+
+        /**
+         * Gets the player causing the event.
+         */
+        private final Function<? super E, Player> playerExtractor;
+
+        /**
+         * The handlers by subscribed objective.
+         */
+        private final Map<Objective, BiConsumer<? super E, OnlineProfile>> handlers = new ConcurrentHashMap<>();
+
+        private Route(final Class<E> eventClass, final Function<? super E, Player> playerExtractor) {
+            this.eventClass = eventClass;
+            this.playerExtractor = playerExtractor;
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void dispatch(final Event rawEvent) {
+            if (handlers.isEmpty() || !eventClass.isInstance(rawEvent)) {
+                return;
+            }
+            final E event = eventClass.cast(rawEvent);
+            final Player player = playerExtractor.apply(event);
+            if (player == null) {
+                return;
+            }
+            final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+            for (final Objective objective : activeObjectives.get(onlineProfile)) {
+                final BiConsumer<? super E, OnlineProfile> handler = handlers.get(objective);
+                if (handler == null) {
+                    continue;
+                }
+                try {
+                    handler.accept(event, onlineProfile);
+                } catch (final RuntimeException exception) {
+                    log.error(objective.getPackage(), "Error while handling '" + eventClass.getSimpleName()
+                            + "' for objective '" + objective.getLabel() + "': " + exception.getMessage(), exception);
+                }
+            }
+        }
+    }
+}
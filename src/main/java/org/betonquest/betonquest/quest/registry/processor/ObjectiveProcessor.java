@@ -10,10 +10,10 @@ import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ObjectiveID;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -26,15 +26,28 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      */
     private final Map<String, Class<? extends Objective>> types;
 
+    /**
+     * The active objectives by profile.
+     */
+    private final ActiveObjectives activeObjectives = new ActiveObjectives();
+
+    /**
+     * The dispatcher routing events to the active objectives.
+     */
+    private final ObjectiveEventDispatcher eventDispatcher;
+
     /**
      * Create a new Objective Processor to store Objectives and starts/stops/resumes them.
      *
      * @param log            the custom logger for this class
      * @param objectiveTypes the available objective types
+     * @param plugin         the plugin to register the objective listeners for
      */
-    public ObjectiveProcessor(final BetonQuestLogger log, final Map<String, Class<? extends Objective>> objectiveTypes) {
+    public ObjectiveProcessor(final BetonQuestLogger log, final Map<String, Class<? extends Objective>> objectiveTypes,
+                              final Plugin plugin) {
         super(log);
         this.types = objectiveTypes;
+        this.eventDispatcher = new ObjectiveEventDispatcher(log, plugin, activeObjectives);
     }
 
     /**
@@ -51,6 +64,8 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
         for (final Objective objective : values.values()) {
             objective.close();
         }
+        eventDispatcher.close();
+        activeObjectives.clear();
         super.clear();
     }
 
@@ -150,13 +165,25 @@ public class ObjectiveProcessor extends QuestProcessor<ObjectiveID, Objective> {
      * @return list of this player's active objectives
      */
     public List<Objective> getActive(final Profile profile) {
-        final List<Objective> list = new ArrayList<>();
-        for (final Objective objective : values.values()) {
-            if (objective.containsPlayer(profile)) {
-                list.add(objective);
-            }
-        }
-        return list;
+        return activeObjectives.get(profile);
+    }
+
+    /**
+     * Gets the index of active objectives by profile, which objectives update when they start or stop for a profile.
+     *
+     * @return the active objectives index
+     */
+    public ActiveObjectives getActiveObjectives() {
+        return activeObjectives;
+    }
+
+    /**
+     * Gets the dispatcher routing events to the objectives active for the player causing them.
+     *
+     * @return the objective event dispatcher
+     */
+    public ObjectiveEventDispatcher getEventDispatcher() {
+        return eventDispatcher;
     }
 
     /**
@@ -0,0 +1,98 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers results per {@link Profile} for the current server tick.
+ * <p>
+ * The cache is cleared every tick and the entries of a profile are invalidated when its data changes,
+ * so repeated evaluations within one tick become hash lookups. It is disabled by default, because results that
+ * depend on something else than the profile's data, like the player's inventory or a random number, are also
+ * reused for the rest of the tick.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <K> the type of the key identifying what was evaluated
+ * @param <V> the type of the result
+ */
+public class ProfileTickCache<K, V> {
+    /**
+     * The cached results by profile.
+     */
+    private final Map<Profile, Map<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Whether results are cached.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Creates a new disabled cache.
+     */
+    public ProfileTickCache() {
+    }
+
+    /**
+     * Enables or disables the cache. Disabling it removes all entries.
+     *
+     * @param enabled whether results should be cached
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /**
+     * Gets the result cached in this tick.
+     *
+     * @param profile the profile the result belongs to, null results are never cached
+     * @param key     the key identifying what was evaluated
+     * @return the cached result or null if there is none
+     */
+    @Nullable
+    public V get(@Nullable final Profile profile, final K key) {
+        if (!enabled || profile == null) {
+            return null;
+        }
+        final Map<K, V> results = entries.get(profile);
+        return results == null ? null : results.get(key);
+    }
+
+    /**
+     * Caches a result for the rest of this tick.
+     *
+     * @param profile the profile the result belongs to, null results are never cached
+     * @param key     the key identifying what was evaluated
+     * @param value   the result
+     */
+    public void put(@Nullable final Profile profile, final K key, final V value) {
+        if (!enabled || profile == null) {
+            return;
+        }
+        entries.computeIfAbsent(profile, newProfile -> new ConcurrentHashMap<>()).put(key, value);
+    }
+
+    /**
+     * Removes all results of the profile, because its data changed.
+     *
+     * @param profile the profile whose data changed
+     */
+    public void invalidate(final Profile profile) {
+        entries.remove(profile);
+    }
+
+    /**
+     * Removes all results. Called every tick and when data shared by all profiles changed.
+     */
+    public void clear() {
+        if (!entries.isEmpty()) {
+            entries.clear();
+        }
+    }
+}
@@ -13,6 +13,9 @@ import org.betonquest.betonquest.quest.legacy.LegacyTypeFactory;
 import org.betonquest.betonquest.quest.registry.type.VariableTypeRegistry;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Stores Variables and resolve them.
  */
@@ -22,6 +25,16 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
      */
     private final BetonQuestLoggerFactory loggerFactory;
 
+    /**
+     * The resolved values of the variables in the current tick.
+     */
+    private final ProfileTickCache<Variable, String> tickCache = new ProfileTickCache<>();
+
+    /**
+     * The created variables by package and instruction, so they can be found without parsing a {@link VariableID}.
+     */
+    private final Map<QuestPackage, Map<String, Variable>> lookup = new ConcurrentHashMap<>();
+
     /**
      * Create a new Variable Processor to store variables, resolves them and create new.
      *
@@ -40,11 +53,26 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
         // Empty
     }
 
+    @Override
+    public void clear() {
+        super.clear();
+        lookup.clear();
+    }
+
     @Override
     protected VariableID getIdentifier(final QuestPackage pack, final String identifier) throws ObjectNotFoundException {
         return new VariableID(loggerFactory, pack, identifier);
     }
 
+    /**
+     * Gets the cache remembering variable values for the current tick.
+     *
+     * @return the tick cache of this processor
+     */
+    public ProfileTickCache<Variable, String> getTickCache() {
+        return tickCache;
+    }
+
     /**
      * Generates new instance of a Variable. If a similar one was already
      * created, it will return it instead of creating a new one.
@@ -56,6 +84,21 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
      */
     public Variable create(@Nullable final QuestPackage pack, final String instruction)
             throws InstructionParseException {
+        if (pack == null) {
+            return createVariable(null, instruction);
+        }
+        final Map<String, Variable> packVariables = lookup.computeIfAbsent(pack, newPack -> new ConcurrentHashMap<>());
+        final Variable known = packVariables.get(instruction);
+        if (known != null) {
+            return known;
+        }
+        final Variable variable = createVariable(pack, instruction);
+        packVariables.put(instruction, variable);
+        return variable;
+    }
+
+    private Variable createVariable(@Nullable final QuestPackage pack, final String instruction)
+            throws InstructionParseException {
         final VariableID variableID;
         try {
             variableID = new VariableID(loggerFactory, pack, instruction);
@@ -74,7 +117,7 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
 
         final Variable variable = variableFactory.parseInstruction(instructionVar);
         values.put(variableID, variable);
-        log.debug(pack, "Variable " + variableID + " loaded");
+        log.debug(pack, () -> "Variable " + variableID + " loaded");
         return variable;
     }
 
@@ -97,6 +140,23 @@ public class VariableProcessor extends TypedQuestProcessor<VariableID, Variable>
         if (profile == null && !var.isStaticness()) {
             throw new InstructionParseException("Non-static variable '" + name + "' cannot be executed without a profile reference!");
         }
-        return var.getValue(profile);
+        return getValue(var, profile);
+    }
+
+    /**
+     * Resolves the variable for the specified player, reusing the value resolved in this tick if there is one.
+     *
+     * @param variable the variable to resolve
+     * @param profile  the {@link Profile} of the player
+     * @return the value of the variable for the given player
+     */
+    public String getValue(final Variable variable, @Nullable final Profile profile) {
+        final String cached = tickCache.get(profile, variable);
+        if (cached != null) {
+            return cached;
+        }
+        final String value = variable.getValue(profile);
+        tickCache.put(profile, variable, value);
+        return value;
     }
 }
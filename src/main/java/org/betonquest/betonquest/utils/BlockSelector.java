@@ -13,11 +13,14 @@ import org.bukkit.block.data.BlockData;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -36,6 +39,11 @@ import java.util.regex.PatternSyntaxException;
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.GodClass"})
 public class BlockSelector {
+    /**
+     * The maximum amount of {@link BlockData} whose match result is remembered per exactness.
+     */
+    private static final int MAX_CACHED_BLOCK_DATA = 4096;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -43,8 +51,28 @@ public class BlockSelector {
 
     private final List<Material> materials;
 
+    /**
+     * The matching materials for fast lookups.
+     */
+    private final Set<Material> materialSet;
+
     private final Map<String, String> states;
 
+    /**
+     * The compiled state value patterns by their state.
+     */
+    private final Map<String, Pattern> statePatterns;
+
+    /**
+     * The match results of block data that was already checked with exact match.
+     */
+    private final Map<BlockData, Boolean> exactMatches = new ConcurrentHashMap<>();
+
+    /**
+     * The match results of block data that was already checked without exact match.
+     */
+    private final Map<BlockData, Boolean> partialMatches = new ConcurrentHashMap<>();
+
     private final Random random = new Random();
 
     /**
@@ -57,10 +85,12 @@ public class BlockSelector {
         final String[] selectorParts = getSelectorParts(block);
         materials = getMaterials(selectorParts[0], selectorParts[1]);
         states = getStates(selectorParts[2]);
+        statePatterns = compileStates(states);
 
         if (materials.isEmpty()) {
             throw new InstructionParseException("Invalid selector, no material found for '" + block + "'!");
         }
+        materialSet = EnumSet.copyOf(materials);
     }
 
     /**
@@ -155,7 +185,7 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector}
      */
     public boolean match(final Material material) {
-        return materials.contains(material);
+        return materialSet.contains(material);
     }
 
     /**
@@ -168,13 +198,30 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector} and the {@link BlockState} matches.
      */
     public boolean match(final Block block, final boolean exactMatch) {
-        if (!match(block.getBlockData().getMaterial())) {
+        final BlockData blockData = block.getBlockData();
+        if (!match(blockData.getMaterial())) {
             return false;
         }
+        if (states.isEmpty() && !exactMatch) {
+            return true;
+        }
 
-        final Map<String, String> blockStates = getStates(getSelectorParts(block.getBlockData().getAsString())[2]);
+        final Map<BlockData, Boolean> matches = exactMatch ? exactMatches : partialMatches;
+        final Boolean cached = matches.get(blockData);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean matched = matchStates(blockData, exactMatch);
+        if (matches.size() < MAX_CACHED_BLOCK_DATA) {
+            matches.put(blockData, matched);
+        }
+        return matched;
+    }
+
+    private boolean matchStates(final BlockData blockData, final boolean exactMatch) {
+        final Map<String, String> blockStates = getStates(getSelectorParts(blockData.getAsString())[2]);
         if (states.isEmpty()) {
-            return !exactMatch || blockStates.isEmpty();
+            return blockStates.isEmpty();
         }
         if (exactMatch && states.size() != blockStates.size()) {
             return false;
@@ -187,13 +234,8 @@ public class BlockSelector {
             }
 
             final String blockState = blockStates.get(singleState);
-            final String state = entry.getValue();
-            if (!blockState.equals(state)) {
-                final Pattern statePattern = Pattern.compile("^" + state + "$");
-                final Matcher stateMatcher = statePattern.matcher(blockState);
-                if (!stateMatcher.find()) {
-                    return false;
-                }
+            if (!blockState.equals(entry.getValue()) && !statePatterns.get(singleState).matcher(blockState).find()) {
+                return false;
             }
         }
         return true;
@@ -286,6 +328,18 @@ public class BlockSelector {
         return materials;
     }
 
+    private Map<String, Pattern> compileStates(final Map<String, String> states) throws InstructionParseException {
+        final Map<String, Pattern> patterns = new HashMap<>();
+        try {
+            for (final Map.Entry<String, String> entry : states.entrySet()) {
+                patterns.put(entry.getKey(), Pattern.compile("^" + entry.getValue() + "$"));
+            }
+        } catch (final PatternSyntaxException exception) {
+            throw new InstructionParseException("Invalid Regex: " + exception.getMessage(), exception);
+        }
+        return patterns;
+    }
+
     private Map<String, String> getStates(@Nullable final String statesString) {
         final Map<String, String> states = new HashMap<>();
         if (statesString == null || statesString.isEmpty()) {
@@ -7,15 +7,21 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Converts the player to the Profile
  */
 @SuppressWarnings({"PMD.ClassNamingConventions", "PMD.CommentRequired"})
 public final class PlayerConverter {
+    /**
+     * The profiles of the online players by their UUID.
+     */
+    private static final Map<UUID, OnlinePlayerProfile> ONLINE_PROFILES = new ConcurrentHashMap<>();
 
     private PlayerConverter() {
     }
@@ -72,50 +78,36 @@ public final class PlayerConverter {
 
     /**
      * Returns the {@link OnlineProfile} of the passed {@link Player}.
+     * <p>
+     * The profile of an online player is created once per login and cached until {@link #removeID(Player)} is
+     * called, so repeated calls for the same player return the same instance. Players that are not the online player
+     * of their UUID, like offline players or NPCs, get a new profile that is not cached.
      *
      * @param player - Player object to get the Profile from
      * @return profile of the player
      */
     public static OnlineProfile getID(final Player player) {
-        return new OnlineProfile() {
-            @Override
-            public Player getPlayer() {
-                return player;
-            }
-
-            @Override
-            public UUID getProfileUUID() {
-                return player.getUniqueId();
-            }
-
-            @Override
-            public String getProfileName() {
-                return player.getName();
-            }
-
-            @Override
-            public Optional<OnlineProfile> getOnlineProfile() {
-                if (player.isOnline()) {
-                    return Optional.of(this);
-                }
-                return Optional.empty();
-            }
-
-            @Override
-            public String toString() {
-                return player.getName() + " with profile " + this.getProfileName();
-            }
-
-            @Override
-            public boolean equals(final Object obj) {
-                return obj instanceof Profile profile && getProfileUUID().equals(profile.getProfileUUID());
-            }
+        final UUID uuid = player.getUniqueId();
+        final OnlinePlayerProfile cached = ONLINE_PROFILES.get(uuid);
+        if (cached != null && cached.player == player) {
+            return cached;
+        }
+        final OnlinePlayerProfile profile = new OnlinePlayerProfile(player, uuid);
+        if (player.isOnline() && Bukkit.getPlayer(uuid) == player) {
+            ONLINE_PROFILES.put(uuid, profile);
+        }
+        return profile;
+    }
 
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(getProfileUUID());
-            }
-        };
+    /**
+     * Removes the cached {@link OnlineProfile} of the player, if it still belongs to this player object.
+     * Called when the player left the server.
+     *
+     * @param player the player that left
+     */
+    public static void removeID(final Player player) {
+        ONLINE_PROFILES.computeIfPresent(player.getUniqueId(),
+                (uuid, profile) -> profile.player == player ? null : profile);
     }
 
     /**
@@ -126,4 +118,68 @@ public final class PlayerConverter {
     public static List<OnlineProfile> getOnlineProfiles() {
         return Bukkit.getOnlinePlayers().stream().map(PlayerConverter::getID).toList();
     }
+
+    /**
+     * The profile of an online player, with the UUID and hash computed once.
+     */
+    private static final class OnlinePlayerProfile implements OnlineProfile {
+        /**
+         * The player of the profile.
+         */
+        private final Player player;
+
+        /**
+         * The UUID of the player, which is also the UUID of the profile.
+         */
+        private final UUID uuid;
+
+        /**
+         * The cached hash code of the UUID.
+         */
+        private final int hash;
+
+        private OnlinePlayerProfile(final Player player, final UUID uuid) {
+            this.player = player;
+            this.uuid = uuid;
+            this.hash = uuid.hashCode();
+        }
+
+        @Override
+        public Player getPlayer() {
+            return player;
+        }
+
+        @Override
+        public UUID getProfileUUID() {
+            return uuid;
+        }
+
+        @Override
+        public String getProfileName() {
+            return player.getName();
+        }
+
+        @Override
+        public Optional<OnlineProfile> getOnlineProfile() {
+            if (player.isOnline()) {
+                return Optional.of(this);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return player.getName() + " with profile " + this.getProfileName();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj == this || obj instanceof Profile profile && uuid.equals(profile.getProfileUUID());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -20,7 +20,7 @@ public class GlobalPointVariable extends PointVariable {
 
     @Override
     public String getValue(@Nullable final Profile profile) {
-        return getValue(BetonQuest.getInstance().getGlobalData().getPoints());
+        return getValue(BetonQuest.getInstance().getGlobalData().getPoint(category));
     }
 
 }
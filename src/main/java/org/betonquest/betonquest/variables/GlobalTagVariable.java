@@ -25,7 +25,7 @@ public class GlobalTagVariable extends TagVariable {
 
     @Override
     public String getValue(@Nullable final Profile profile) {
-        return getValue(BetonQuest.getInstance().getGlobalData().getTags());
+        return getValue(BetonQuest.getInstance().getGlobalData());
     }
 }
 
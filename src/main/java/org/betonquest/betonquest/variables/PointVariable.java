@@ -11,8 +11,8 @@ import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
 import org.betonquest.betonquest.id.ID;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Allows you to display total amount of points or amount of points remaining to
@@ -71,22 +71,12 @@ public class PointVariable extends Variable {
         if (profile == null) {
             return "";
         }
-        return getValue(BetonQuest.getInstance().getPlayerData(profile).getPoints());
+        return getValue(BetonQuest.getInstance().getPlayerData(profile).getPoint(category));
     }
 
     @SuppressWarnings("PMD.TooFewBranchesForSwitch")
-    protected String getValue(final List<Point> points) {
-        Point point = null;
-        for (final Point p : points) {
-            if (p.getCategory().equalsIgnoreCase(category)) {
-                point = p;
-                break;
-            }
-        }
-        int count = 0;
-        if (point != null) {
-            count = point.getCount();
-        }
+    protected String getValue(final Optional<Point> point) {
+        final int count = point.map(Point::getCount).orElse(0);
         return switch (type) {
             case AMOUNT -> Integer.toString(count);
             case LEFT -> Integer.toString(amount - count);
@@ -6,11 +6,10 @@ import org.betonquest.betonquest.api.Variable;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.profiles.Profile;
 import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.database.TagData;
 import org.betonquest.betonquest.exceptions.InstructionParseException;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-
 /**
  * Exposes the presence of tags as a variable.
  * Originally implemented for use with the PAPI integration.
@@ -55,8 +54,7 @@ public class TagVariable extends Variable {
         if (profile == null) {
             return "";
         }
-        final List<String> tags = BetonQuest.getInstance().getPlayerData(profile).getTags();
-        return getValue(tags);
+        return getValue(BetonQuest.getInstance().getPlayerData(profile));
     }
 
     /**
@@ -66,10 +64,10 @@ public class TagVariable extends Variable {
      * @param tags the tags to check
      * @return whether the player has the variable
      */
-    protected String getValue(final List<String> tags) {
+    protected String getValue(final TagData tags) {
         final String lang = Config.getLanguage();
 
-        if (tags.contains(questPackage.getQuestPath() + "." + tagName)) {
+        if (tags.hasTag(questPackage.getQuestPath() + "." + tagName)) {
             return papiMode ? Config.getMessage(lang, "condition_variable_met") : "true";
         }
         return papiMode ? Config.getMessage(lang, "condition_variable_not_met") : "false";
@@ -0,0 +1,78 @@
+package org.betonquest.betonquest.compatibility.placeholderapi;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.InstantSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link PlaceholderCache}.
+ */
+class PlaceholderCacheTest {
+    /**
+     * The mocked source of the current time.
+     */
+    private InstantSource instantSource;
+
+    /**
+     * The cache to test.
+     */
+    private PlaceholderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        instantSource = mock(InstantSource.class);
+        when(instantSource.millis()).thenReturn(1000L);
+        cache = new PlaceholderCache(instantSource);
+    }
+
+    @Test
+    void disabledCacheRemembersNothing() {
+        final UUID owner = UUID.randomUUID();
+
+        cache.put(owner, "pack:point.a.amount", "5");
+        assertNull(cache.get(owner, "pack:point.a.amount"), "A disabled cache should not remember values");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void valuesExpireAfterTimeToLive() {
+        final UUID owner = UUID.randomUUID();
+        cache.setTimeToLive(500);
+
+        cache.put(owner, "pack:point.a.amount", "5");
+        when(instantSource.millis()).thenReturn(1499L);
+        assertEquals("5", cache.get(owner, "pack:point.a.amount"), "The value should be cached");
+
+        when(instantSource.millis()).thenReturn(1500L);
+        assertNull(cache.get(owner, "pack:point.a.amount"), "The value should have expired");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void removeOnlyAffectsOwner() {
+        final UUID owner = UUID.randomUUID();
+        cache.setTimeToLive(500);
+        cache.put(owner, "pack:point.a.amount", "5");
+        cache.put(PlaceholderCache.NO_PLAYER, "pack:globalpoint.a.amount", "7");
+
+        cache.remove(owner);
+        assertNull(cache.get(owner, "pack:point.a.amount"), "The values of the owner should be removed");
+        assertEquals("7", cache.get(PlaceholderCache.NO_PLAYER, "pack:globalpoint.a.amount"),
+                "The values of other owners should be kept");
+    }
+
+    @Test
+    void changingTimeToLiveClearsValues() {
+        final UUID owner = UUID.randomUUID();
+        cache.setTimeToLive(500);
+        cache.put(owner, "pack:point.a.amount", "5");
+
+        cache.setTimeToLive(1000);
+        assertNull(cache.get(owner, "pack:point.a.amount"), "Changing the time to live should clear the cache");
+    }
+}
@@ -0,0 +1,122 @@
+package org.betonquest.betonquest.compatibility.protocollib.hider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link EntityVisibilityTable}.
+ */
+class EntityVisibilityTableTest {
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void addAndRemoveReportPreviousMembership() {
+        final EntityVisibilityTable table = new EntityVisibilityTable();
+
+        assertFalse(table.add(1, 0), "The entity should not be present before it was added");
+        assertTrue(table.add(1, 0), "The entity should be present after it was added");
+        assertTrue(table.contains(1, 0), "The entity should be contained after it was added");
+        assertFalse(table.contains(2, 0), "The entity should not be contained for another observer");
+        assertTrue(table.remove(1, 0), "The entity should be present before it was removed");
+        assertFalse(table.remove(1, 0), "The entity should not be present after it was removed");
+        assertFalse(table.contains(1, 0), "The entity should not be contained after it was removed");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void removeEntityAndObserver() {
+        final EntityVisibilityTable table = new EntityVisibilityTable();
+        table.add(1, 10);
+        table.add(1, 11);
+        table.add(2, 10);
+
+        table.removeEntity(10);
+        assertFalse(table.contains(1, 10), "The entity should be removed for the first observer");
+        assertFalse(table.contains(2, 10), "The entity should be removed for the second observer");
+        assertTrue(table.contains(1, 11), "Other entities should be kept");
+
+        table.removeObserver(1);
+        assertFalse(table.contains(1, 11), "The entities of the removed observer should be removed");
+    }
+
+    @Test
+    void growsWithManyObserversAndEntities() {
+        final EntityVisibilityTable table = new EntityVisibilityTable();
+        for (int observer = 0; observer < 100; observer++) {
+            for (int entity = -500; entity < 500; entity++) {
+                table.add(observer, entity);
+            }
+        }
+        for (int observer = 0; observer < 100; observer++) {
+            for (int entity = -500; entity < 500; entity++) {
+                if (!table.contains(observer, entity)) {
+                    fail("Entity " + entity + " should be contained for observer " + observer);
+                }
+            }
+        }
+    }
+
+    @Test
+    void readersAlwaysSeeStableEntitiesWhileWritersChangeOthers() throws Exception {
+        final EntityVisibilityTable table = new EntityVisibilityTable();
+        for (int observer = 0; observer < 8; observer++) {
+            for (int entity = 0; entity < 64; entity += 2) {
+                table.add(observer, entity);
+            }
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < 2; writer++) {
+                final int offset = writer;
+                writers.add(executor.submit(() -> {
+                    for (int round = 0; round < 2000; round++) {
+                        for (int observer = offset; observer < 8; observer += 2) {
+                            for (int entity = 1; entity < 2000; entity += 2) {
+                                table.add(observer, entity);
+                            }
+                            for (int entity = 1; entity < 2000; entity += 2) {
+                                table.remove(observer, entity);
+                            }
+                        }
+                        table.add(100 + offset, round);
+                        table.removeObserver(100 + offset);
+                    }
+                }));
+            }
+            final List<Future<Boolean>> readers = new ArrayList<>();
+            for (int reader = 0; reader < 4; reader++) {
+                readers.add(executor.submit(() -> {
+                    while (running.get()) {
+                        for (int observer = 0; observer < 8; observer++) {
+                            for (int entity = 0; entity < 64; entity += 2) {
+                                if (!table.contains(observer, entity)) {
+                                    return false;
+                                }
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            for (final Future<Boolean> reader : readers) {
+                assertTrue(reader.get(60, TimeUnit.SECONDS), "Readers should always see entities that were not changed");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CoalescingRecordQueue}.
+ */
+class CoalescingRecordQueueTest {
+    private static final String PROFILE = "00000000-0000-0000-0000-000000000000";
+
+    private static List<Record> drain(final CoalescingRecordQueue queue) {
+        final List<Record> records = new ArrayList<>();
+        Record rec = queue.poll();
+        while (rec != null) {
+            records.add(rec);
+            rec = queue.poll();
+        }
+        return records;
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void upsertReplacesQueuedUpsertForSameRow() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.UPSERT_OBJECTIVES, PROFILE, "pack.kill", "1"));
+        queue.add(new Record(UpdateType.UPSERT_OBJECTIVES, PROFILE, "pack.kill", "2"));
+        queue.add(new Record(UpdateType.UPSERT_OBJECTIVES, PROFILE, "pack.kill", "3"));
+
+        final List<Record> records = drain(queue);
+        assertEquals(1, records.size(), "Only the latest state should be written");
+        assertArrayEquals(new String[]{PROFILE, "pack.kill", "3"}, records.get(0).args(), "The latest state should be written");
+        assertEquals(2, queue.getCoalescedCount(), "Two records should have been coalesced");
+    }
+
+    @Test
+    void differentRowsAreNotCoalesced() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.UPSERT_POINTS, PROFILE, "pack.first", "1"));
+        queue.add(new Record(UpdateType.UPSERT_POINTS, PROFILE, "pack.second", "1"));
+        queue.add(new Record(UpdateType.ADD_TAGS, PROFILE, "pack.first"));
+
+        assertEquals(3, drain(queue).size(), "Records for different rows must all be written");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void removeReplacesQueuedInsert() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.ADD_TAGS, PROFILE, "pack.tag"));
+        queue.add(new Record(UpdateType.REMOVE_TAGS, PROFILE, "pack.tag"));
+
+        final List<Record> records = drain(queue);
+        assertEquals(1, records.size(), "The insert should be superseded by the removal");
+        assertEquals(UpdateType.REMOVE_TAGS, records.get(0).type(), "The removal should be written");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void insertAfterRemoveIsKept() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.REMOVE_TAGS, PROFILE, "pack.tag"));
+        queue.add(new Record(UpdateType.ADD_TAGS, PROFILE, "pack.tag"));
+
+        final List<Record> records = drain(queue);
+        assertEquals(2, records.size(), "An insert cannot replace a removal");
+        assertEquals(UpdateType.REMOVE_TAGS, records.get(0).type(), "The removal should be written first");
+        assertEquals(UpdateType.ADD_TAGS, records.get(1).type(), "The insert should be written last");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void barrierPreventsCoalescingAcrossIt() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.UPSERT_OBJECTIVES, PROFILE, "pack.kill", "1"));
+        queue.add(new Record(UpdateType.DELETE_OBJECTIVES, PROFILE));
+        queue.add(new Record(UpdateType.UPSERT_OBJECTIVES, PROFILE, "pack.kill", "2"));
+
+        final List<Record> records = drain(queue);
+        assertEquals(3, records.size(), "No record may be coalesced across a barrier");
+        assertEquals(UpdateType.DELETE_OBJECTIVES, records.get(1).type(), "The barrier should keep its position");
+        assertArrayEquals(new String[]{PROFILE, "pack.kill", "2"}, records.get(2).args(), "The new state should be written after the barrier");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void drainedRecordsAreNotReplaced() {
+        final CoalescingRecordQueue queue = new CoalescingRecordQueue();
+        queue.add(new Record(UpdateType.UPSERT_GLOBAL_POINTS, "pack.global", "1"));
+        assertNotNull(queue.poll(), "The record should be drained");
+        queue.add(new Record(UpdateType.UPSERT_GLOBAL_POINTS, "pack.global", "2"));
+
+        final List<Record> records = drain(queue);
+        assertEquals(1, records.size(), "The new record should be queued");
+        assertArrayEquals(new String[]{"pack.global", "2"}, records.get(0).args(), "The new state should be written");
+        assertTrue(queue.isEmpty(), "The queue should be empty");
+    }
+}
@@ -0,0 +1,80 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link PlayerDataLoader}.
+ */
+class PlayerDataLoaderTest {
+    /**
+     * The stored data by profile.
+     */
+    private Map<Profile, PlayerData> playerDataMap;
+
+    /**
+     * The loader under test.
+     */
+    private PlayerDataLoader loader;
+
+    /**
+     * The profile whose data is loaded.
+     */
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() {
+        playerDataMap = new ConcurrentHashMap<>();
+        loader = new PlayerDataLoader(mock(BetonQuestLogger.class), 1, playerDataMap);
+        profile = mock(Profile.class);
+        loader.markPending(List.of(profile));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void loadedDataIsStoredAndStarted() {
+        final PlayerData loaded = mock(PlayerData.class);
+
+        assertEquals(Optional.of(loaded), loader.store(profile, loaded), "The loaded data should be started");
+        assertSame(loaded, playerDataMap.get(profile), "The loaded data should be stored");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void dataCreatedWhileLoadingIsKeptAndStarted() {
+        final PlayerData created = mock(PlayerData.class);
+        playerDataMap.put(profile, created);
+
+        assertEquals(Optional.of(created), loader.store(profile, mock(PlayerData.class)),
+                "The data created while loading should be started instead of the loaded data");
+        assertSame(created, playerDataMap.get(profile), "The data created while loading should be kept");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void forgottenProfileIsNotStored() {
+        loader.forget(profile);
+
+        assertEquals(Optional.empty(), loader.store(profile, mock(PlayerData.class)),
+                "The data of a profile that is not pending should not be started");
+        assertTrue(playerDataMap.isEmpty(), "The data of a profile that is not pending should not be stored");
+    }
+
+    @Test
+    void dataIsStartedOnlyOnce() {
+        final PlayerData loaded = mock(PlayerData.class);
+        loader.store(profile, loaded);
+
+        assertEquals(Optional.empty(), loader.store(profile, loaded), "The data should only be started once");
+    }
+}
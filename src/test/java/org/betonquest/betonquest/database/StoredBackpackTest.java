@@ -0,0 +1,79 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.database.Saver.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StoredBackpack}.
+ */
+class StoredBackpackTest {
+    /**
+     * The profile ID used in the tests.
+     */
+    private static final String PROFILE = "profile";
+
+    private static void assertRecord(final Record actual, final UpdateType type, final String... args) {
+        assertEquals(type, actual.type(), "The record should have the expected type");
+        assertArrayEquals(args, actual.args(), "The record should have the expected arguments");
+    }
+
+    @Test
+    void unchangedBackpackWritesNothing() {
+        final StoredBackpack backpack = new StoredBackpack(PROFILE);
+        backpack.loaded("STONE", 64);
+        backpack.loaded("STONE", 64);
+        backpack.loaded("DIRT", 3);
+
+        final List<Record> records = backpack.update(List.of(new StoredBackpack.Entry("DIRT", 3),
+                new StoredBackpack.Entry("STONE", 64), new StoredBackpack.Entry("STONE", 64)));
+
+        assertTrue(records.isEmpty(), "An unchanged backpack should not write any row");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void changedStackUpdatesItsAmount() {
+        final StoredBackpack backpack = new StoredBackpack(PROFILE);
+        backpack.loaded("STONE", 64);
+        backpack.loaded("STONE", 10);
+
+        final List<Record> records = backpack.update(List.of(new StoredBackpack.Entry("STONE", 64),
+                new StoredBackpack.Entry("STONE", 12)));
+
+        assertEquals(1, records.size(), "Only the changed stack should be written");
+        assertRecord(records.get(0), UpdateType.UPDATE_BACKPACK_AMOUNT, "12", PROFILE, "STONE", "10");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void addedAndRemovedStacksAreInsertedAndDeleted() {
+        final StoredBackpack backpack = new StoredBackpack(PROFILE);
+        backpack.loaded("STONE", 64);
+        backpack.loaded("DIRT", 5);
+
+        final List<Record> records = backpack.update(List.of(new StoredBackpack.Entry("STONE", 64),
+                new StoredBackpack.Entry("SAND", 7)));
+
+        assertEquals(2, records.size(), "The added and the removed stack should be written");
+        assertRecord(records.get(0), UpdateType.ADD_BACKPACK, PROFILE, "SAND", "7");
+        assertRecord(records.get(1), UpdateType.REMOVE_BACKPACK, PROFILE, "DIRT", "5");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void updateRemembersTheNewContent() {
+        final StoredBackpack backpack = new StoredBackpack(PROFILE);
+        backpack.update(List.of(new StoredBackpack.Entry("STONE", 1)));
+
+        assertTrue(backpack.update(List.of(new StoredBackpack.Entry("STONE", 1))).isEmpty(),
+                "The saved content should not be written again");
+        backpack.clear();
+        final List<Record> records = backpack.update(List.of(new StoredBackpack.Entry("STONE", 1)));
+        assertEquals(1, records.size(), "The content should be written again after clearing");
+        assertRecord(records.get(0), UpdateType.ADD_BACKPACK, PROFILE, "STONE", "1");
+    }
+}
@@ -0,0 +1,83 @@
+package org.betonquest.betonquest.instruction.variable;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link Variable}.
+ */
+class VariableTest {
+    /**
+     * The processor creating the mocked variables.
+     */
+    private VariableProcessor variableProcessor;
+
+    /**
+     * The package the variables are used in.
+     */
+    private QuestPackage pack;
+
+    /**
+     * The profile to resolve the variables for.
+     */
+    private Profile profile;
+
+    @BeforeEach
+    void setUp() throws InstructionParseException {
+        variableProcessor = mock(VariableProcessor.class);
+        when(variableProcessor.getValue(any(org.betonquest.betonquest.api.Variable.class), any())).thenAnswer(invocation ->
+                invocation.<org.betonquest.betonquest.api.Variable>getArgument(0).getValue(invocation.getArgument(1)));
+        pack = mock(QuestPackage.class);
+        profile = mock(Profile.class);
+        mockVariable("%name%", "Steve");
+        mockVariable("%amount%", "5");
+    }
+
+    private void mockVariable(final String instruction, final String value) throws InstructionParseException {
+        final org.betonquest.betonquest.api.Variable variable = mock(org.betonquest.betonquest.api.Variable.class);
+        when(variable.getValue(profile)).thenReturn(value);
+        when(variableProcessor.create(pack, instruction)).thenReturn(variable);
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void inputWithoutVariablesIsConstant() throws InstructionParseException, QuestRuntimeException {
+        final Variable<String> variable = new Variable<>(variableProcessor, pack, "plain text", value -> value);
+
+        assertTrue(variable.isConstant(), "The variable should be constant");
+        assertEquals("plain text", variable.getValue(profile), "The text should be returned unchanged");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void literalsAndVariablesAreResolvedInOrder() throws InstructionParseException, QuestRuntimeException {
+        final Variable<String> variable = new Variable<>(variableProcessor, pack,
+                "Hello %name%, you have %amount% apples, %name%!", value -> value);
+
+        assertFalse(variable.isConstant(), "The variable should not be constant");
+        assertEquals("Hello Steve, you have 5 apples, Steve!", variable.getValue(profile),
+                "The variables should be replaced");
+    }
+
+    @Test
+    void singleVariableIsResolvedToType() throws InstructionParseException, QuestRuntimeException {
+        final Variable<Number> variable = new Variable<>(variableProcessor, pack, "%amount%", Double::parseDouble);
+
+        assertEquals(5.0, variable.getValue(profile), "The variable should be resolved to a number");
+    }
+
+    @Test
+    void escapedPercentIsNoVariable() throws InstructionParseException, QuestRuntimeException {
+        final Variable<String> variable = new Variable<>(variableProcessor, pack, "100\\% of %name%", value -> value);
+
+        assertEquals("100\\% of Steve", variable.getValue(profile), "Escaped percent signs should stay literal");
+    }
+}
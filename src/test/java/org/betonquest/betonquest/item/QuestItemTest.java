@@ -0,0 +1,73 @@
+package org.betonquest.betonquest.item;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.exceptions.ObjectNotFoundException;
+import org.betonquest.betonquest.id.ItemID;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.inventory.ItemFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link QuestItem}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class QuestItemTest {
+    /**
+     * The mocked static Bukkit, used by the item handlers.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    /**
+     * The mocked static Config, used by the item handlers.
+     */
+    private MockedStatic<Config> config;
+
+    @BeforeEach
+    void setUp() {
+        final Server server = mock(Server.class);
+        final ItemFactory itemFactory = mock(ItemFactory.class);
+        when(server.getItemFactory()).thenReturn(itemFactory);
+        when(itemFactory.getDefaultLeatherColor()).thenReturn(Color.WHITE);
+        bukkit = mockStatic(Bukkit.class);
+        bukkit.when(Bukkit::getServer).thenReturn(server);
+        config = mockStatic(Config.class);
+        QuestItem.clearCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuestItem.clearCache();
+        config.close();
+        bukkit.close();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void changedItemDefinitionIsUsedAfterClearingTheCache() throws ObjectNotFoundException, InstructionParseException {
+        final QuestPackage pack = mock(QuestPackage.class);
+        when(pack.getQuestPath()).thenReturn("test");
+        when(pack.getString("items.reward")).thenReturn("stone");
+
+        final QuestItem before = QuestItem.get(new ItemID(pack, "reward"));
+        assertEquals(Material.STONE, before.getMaterial(), "The item should be parsed from its definition");
+        assertSame(before, QuestItem.get(new ItemID(pack, "reward")), "The parsed item should be cached");
+
+        when(pack.getString("items.reward")).thenReturn("diamond");
+        QuestItem.clearCache();
+        final QuestItem after = QuestItem.get(new ItemID(pack, "reward"));
+        assertEquals(Material.DIAMOND, after.getMaterial(), "The changed definition should be used after a reload");
+    }
+}
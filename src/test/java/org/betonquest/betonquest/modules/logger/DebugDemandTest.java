@@ -0,0 +1,35 @@
+package org.betonquest.betonquest.modules.logger;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link DebugDemand}.
+ */
+class DebugDemandTest {
+    @Test
+    void withoutSourcesDebugIsRequired() {
+        final DebugDemand demand = new DebugDemand();
+        assertTrue(demand.isRequired(null), "Debug records should be required as long as there is no source");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void debugIsRequiredIfAnySourceRequiresIt() {
+        final DebugDemand demand = new DebugDemand();
+        final QuestPackage pack = mock(QuestPackage.class);
+        final AtomicBoolean watching = new AtomicBoolean();
+        demand.addSource(questPackage -> false);
+        demand.addSource(questPackage -> watching.get() && questPackage == pack);
+
+        assertFalse(demand.isRequired(pack), "Debug records should not be required if no source requires them");
+        watching.set(true);
+        assertTrue(demand.isRequired(pack), "Debug records should be required if a source requires them");
+        assertFalse(demand.isRequired(null), "The package should be passed to the sources");
+    }
+}
@@ -15,6 +15,7 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -91,6 +92,23 @@ class DefaultBetonQuestLoggerTest {
         verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
     }
 
+    @Test
+    void debugWithSupplier() {
+        logger.debug(questPackage, () -> LOG_MESSAGE);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+    }
+
+    @Test
+    void debugWithSupplierIsSkippedWithoutDemand() {
+        final DebugDemand debugDemand = new DebugDemand();
+        debugDemand.addSource(pack -> false);
+        final Plugin plugin = mock(Plugin.class);
+        final BetonQuestLogger skippingLogger = new DefaultBetonQuestLogger(plugin, BetonQuestLoggerService.getSilentLogger(), getClass(), null, debugDemand);
+        assertDoesNotThrow(() -> skippingLogger.debug(questPackage, () -> {
+            throw new IllegalStateException("built");
+        }), "The message should not be built without demand");
+    }
+
     @Test
     void debugException() {
         logger.debug(LOG_MESSAGE, IO_EXCEPTION);
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.modules.logger;
 
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.modules.logger.handler.chat.ReceiverSelectorRegistry;
 import org.betonquest.betonquest.modules.logger.handler.chat.RecordReceiverSelector;
 import org.junit.jupiter.api.Test;
@@ -107,4 +108,24 @@ class PlayerLogWatcherTest {
         verify(registry).removeSelector(argument.getValue());
         verify(registry, times(2)).addSelector(any());
     }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testRequiresDebugOnlyForDebugFilterOfThePackage(@Mock final ReceiverSelectorRegistry registry,
+                                                         @Mock final QuestPackage pack, @Mock final QuestPackage otherPack) {
+        final PlayerLogWatcher watcher = new PlayerLogWatcher(registry);
+        final UUID uuid = UUID.randomUUID();
+        when(pack.getQuestPath()).thenReturn(PATTERN);
+        when(otherPack.getQuestPath()).thenReturn("other-pattern");
+
+        watcher.addFilter(uuid, PATTERN, Level.INFO);
+        assertFalse(watcher.requiresDebug(pack), "A filter above the debug level should not require debug records");
+
+        watcher.addFilter(uuid, PATTERN, Level.FINE);
+        assertTrue(watcher.requiresDebug(pack), "A debug filter should require debug records of its package");
+        assertFalse(watcher.requiresDebug(otherPack), "A debug filter should not require debug records of other packages");
+
+        watcher.removeFilter(uuid, PATTERN);
+        assertFalse(watcher.requiresDebug(pack), "A removed filter should not require debug records");
+    }
 }
@@ -0,0 +1,61 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.Objective;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ActiveObjectives}.
+ */
+class ActiveObjectivesTest {
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void objectivesAreIndexedByProfile() {
+        final ActiveObjectives activeObjectives = new ActiveObjectives();
+        final Profile first = mock(Profile.class);
+        final Profile second = mock(Profile.class);
+        final Objective objective = mock(Objective.class);
+        final Objective other = mock(Objective.class);
+
+        activeObjectives.add(first, objective);
+        activeObjectives.add(first, other);
+        activeObjectives.add(second, other);
+
+        final List<Objective> firstActive = activeObjectives.get(first);
+        assertEquals(2, firstActive.size(), "The first profile should have two objectives");
+        assertTrue(firstActive.containsAll(List.of(objective, other)), "The first profile should have both objectives");
+        assertEquals(List.of(other), activeObjectives.get(second), "The second profile should only have one objective");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void removedObjectivesAreNoLongerActive() {
+        final ActiveObjectives activeObjectives = new ActiveObjectives();
+        final Profile profile = mock(Profile.class);
+        final Objective objective = mock(Objective.class);
+        final Objective other = mock(Objective.class);
+
+        activeObjectives.add(profile, objective);
+        activeObjectives.add(profile, other);
+        activeObjectives.remove(profile, objective);
+        assertEquals(List.of(other), activeObjectives.get(profile), "Only the remaining objective should be active");
+
+        activeObjectives.remove(profile, other);
+        assertTrue(activeObjectives.get(profile).isEmpty(), "No objective should be active");
+    }
+
+    @Test
+    void clearRemovesAllObjectives() {
+        final ActiveObjectives activeObjectives = new ActiveObjectives();
+        final Profile profile = mock(Profile.class);
+        activeObjectives.add(profile, mock(Objective.class));
+
+        activeObjectives.clear();
+        assertTrue(activeObjectives.get(profile).isEmpty(), "No objective should be active after clearing");
+    }
+}
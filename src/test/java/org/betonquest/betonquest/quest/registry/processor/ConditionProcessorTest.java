@@ -0,0 +1,89 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.Condition;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.betonquest.betonquest.exceptions.QuestRuntimeException;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.quest.registry.type.ConditionTypeRegistry;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ConditionProcessor}.
+ */
+class ConditionProcessorTest {
+    /**
+     * The mocked scheduler to check the main thread hops.
+     */
+    private BukkitScheduler scheduler;
+
+    /**
+     * The profile to check the conditions for.
+     */
+    private Profile profile;
+
+    /**
+     * The processor to test.
+     */
+    private ConditionProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        final Plugin plugin = mock(Plugin.class);
+        final Server server = mock(Server.class);
+        scheduler = mock(BukkitScheduler.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(server.isPrimaryThread()).thenReturn(false);
+        when(scheduler.callSyncMethod(eq(plugin), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Callable<?>>getArgument(1).call()));
+        profile = mock(Profile.class);
+        when(profile.getOnlineProfile()).thenReturn(Optional.of(mock(OnlineProfile.class)));
+        processor = new ConditionProcessor(mock(BetonQuestLogger.class), mock(ConditionTypeRegistry.class), plugin);
+    }
+
+    private ConditionID addCondition(final boolean outcome, final boolean primaryThreadOnly) throws QuestRuntimeException {
+        final ConditionID conditionID = mock(ConditionID.class);
+        final Condition condition = mock(Condition.class);
+        when(condition.handle(profile)).thenReturn(outcome);
+        when(condition.isPrimaryThreadOnly()).thenReturn(primaryThreadOnly);
+        processor.values.put(conditionID, condition);
+        return conditionID;
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void primaryThreadConditionsOfAllGroupsAreCheckedInOneHop() throws QuestRuntimeException {
+        final ConditionID threadSafe = addCondition(true, false);
+        final ConditionID firstSync = addCondition(true, true);
+        final ConditionID secondSync = addCondition(false, true);
+
+        final boolean[] results = processor.checkGroups(profile,
+                List.of(List.of(threadSafe, firstSync), List.of(secondSync), List.of(threadSafe)));
+
+        assertArrayEquals(new boolean[]{true, false, true}, results, "The groups should be checked independently");
+        verify(scheduler, times(1)).callSyncMethod(any(), any());
+    }
+
+    @Test
+    void failedThreadSafeConditionSkipsPrimaryThread() throws QuestRuntimeException {
+        final ConditionID threadSafe = addCondition(false, false);
+        final ConditionID sync = addCondition(true, true);
+
+        assertFalse(processor.checks(profile, sync, threadSafe), "The conditions should not be met");
+        verifyNoInteractions(scheduler);
+    }
+}
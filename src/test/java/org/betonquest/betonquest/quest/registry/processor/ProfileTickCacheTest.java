@@ -0,0 +1,77 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.betonquest.betonquest.api.profiles.Profile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link ProfileTickCache}.
+ */
+class ProfileTickCacheTest {
+    private static ProfileTickCache<String, String> enabledCache() {
+        final ProfileTickCache<String, String> cache = new ProfileTickCache<>();
+        cache.setEnabled(true);
+        return cache;
+    }
+
+    @Test
+    void disabledCacheRemembersNothing() {
+        final ProfileTickCache<String, String> cache = new ProfileTickCache<>();
+        final Profile profile = mock(Profile.class);
+
+        cache.put(profile, "key", "value");
+        assertNull(cache.get(profile, "key"), "A disabled cache should not remember results");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void resultsAreRememberedPerProfile() {
+        final ProfileTickCache<String, String> cache = enabledCache();
+        final Profile profile = mock(Profile.class);
+        final Profile other = mock(Profile.class);
+
+        cache.put(profile, "key", "value");
+        assertEquals("value", cache.get(profile, "key"), "The result should be remembered");
+        assertNull(cache.get(other, "key"), "The result should not be shared with other profiles");
+    }
+
+    @Test
+    void resultsWithoutProfileAreNotRemembered() {
+        final ProfileTickCache<String, String> cache = enabledCache();
+
+        cache.put(null, "key", "value");
+        assertNull(cache.get(null, "key"), "Results without a profile should not be remembered");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void invalidateOnlyRemovesResultsOfProfile() {
+        final ProfileTickCache<String, String> cache = enabledCache();
+        final Profile profile = mock(Profile.class);
+        final Profile other = mock(Profile.class);
+        cache.put(profile, "key", "value");
+        cache.put(other, "key", "other");
+
+        cache.invalidate(profile);
+        assertNull(cache.get(profile, "key"), "The result of the invalidated profile should be removed");
+        assertEquals("other", cache.get(other, "key"), "The result of the other profile should be kept");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void clearAndDisableRemoveAllResults() {
+        final ProfileTickCache<String, String> cache = enabledCache();
+        final Profile profile = mock(Profile.class);
+        cache.put(profile, "key", "value");
+
+        cache.clear();
+        assertNull(cache.get(profile, "key"), "Clearing should remove all results");
+
+        cache.put(profile, "key", "value");
+        cache.setEnabled(false);
+        cache.setEnabled(true);
+        assertNull(cache.get(profile, "key"), "Disabling should remove all results");
+    }
+}
@@ -0,0 +1,69 @@
+package org.betonquest.betonquest.utils;
+
+import org.betonquest.betonquest.exceptions.InstructionParseException;
+import org.betonquest.betonquest.modules.logger.util.BetonQuestLoggerService;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link BlockSelector}.
+ */
+@ExtendWith(BetonQuestLoggerService.class)
+class BlockSelectorTest {
+    private static Block mockBlock(final Material material, final String states) {
+        final BlockData blockData = mock(BlockData.class);
+        when(blockData.getMaterial()).thenReturn(material);
+        when(blockData.getAsString()).thenReturn(material.getKey() + states);
+        final Block block = mock(Block.class);
+        when(block.getBlockData()).thenReturn(blockData);
+        return block;
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void wildcardSelectorMatchesAllMaterials() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector(".*_log");
+
+        assertTrue(selector.match(Material.OAK_LOG), "The oak log should match the wildcard");
+        assertTrue(selector.match(Material.BIRCH_LOG), "The birch log should match the wildcard");
+        assertFalse(selector.match(Material.STONE), "Stone should not match the wildcard");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void regexStateMatchesBlockStates() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=(north|south)]");
+
+        assertTrue(selector.match(mockBlock(Material.OAK_STAIRS, "[facing=north,half=bottom]"), false),
+                "The state should match the regex");
+        assertFalse(selector.match(mockBlock(Material.OAK_STAIRS, "[facing=north,half=bottom]"), true),
+                "Additional states should not match exactly");
+        assertFalse(selector.match(mockBlock(Material.OAK_STAIRS, "[facing=east,half=bottom]"), false),
+                "The state should not match the regex");
+        assertFalse(selector.match(mockBlock(Material.STONE, ""), false),
+                "Another material should not match");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void resultOfSameBlockDataIsReused() throws InstructionParseException {
+        final BlockSelector selector = new BlockSelector("oak_stairs[facing=north]");
+        final Block block = mockBlock(Material.OAK_STAIRS, "[facing=north,half=bottom]");
+
+        assertTrue(selector.match(block, false), "The first check should match");
+        assertTrue(selector.match(block, false), "The second check should match");
+        verify(block.getBlockData(), times(1)).getAsString();
+    }
+
+    @Test
+    void invalidStateRegexIsRejected() {
+        assertThrows(InstructionParseException.class, () -> new BlockSelector("stone[facing=(]"),
+                "An invalid state regex should be rejected when the selector is created");
+    }
+}
@@ -0,0 +1,110 @@
+package org.betonquest.betonquest.utils;
+
+import org.betonquest.betonquest.api.profiles.OnlineProfile;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link PlayerConverter}.
+ */
+class PlayerConverterTest {
+    /**
+     * The mocked static Bukkit, used to look up the online players.
+     */
+    private MockedStatic<Bukkit> bukkit;
+
+    @BeforeEach
+    void setUp() {
+        bukkit = mockStatic(Bukkit.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bukkit.close();
+    }
+
+    private Player mockPlayer(final UUID uuid) {
+        final Player player = mockOfflinePlayer(uuid);
+        when(player.isOnline()).thenReturn(true);
+        bukkit.when(() -> Bukkit.getPlayer(uuid)).thenReturn(player);
+        return player;
+    }
+
+    private Player mockOfflinePlayer(final UUID uuid) {
+        final Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(uuid);
+        return player;
+    }
+
+    @Test
+    void sameOnlineProfileIsReturnedForSamePlayer() {
+        final Player player = mockPlayer(UUID.randomUUID());
+
+        assertSame(PlayerConverter.getID(player), PlayerConverter.getID(player), "The profile should be cached");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void newPlayerObjectCreatesNewProfile() {
+        final UUID uuid = UUID.randomUUID();
+        final OnlineProfile first = PlayerConverter.getID(mockPlayer(uuid));
+        final Player rejoined = mockPlayer(uuid);
+        final OnlineProfile second = PlayerConverter.getID(rejoined);
+
+        assertNotSame(first, second, "A new login should get a new profile");
+        assertSame(rejoined, second.getPlayer(), "The profile should hold the new player");
+        assertEquals(first, second, "Profiles of the same player should be equal");
+    }
+
+    @Test
+    void removedProfileIsCreatedAgain() {
+        final Player player = mockPlayer(UUID.randomUUID());
+        final OnlineProfile profile = PlayerConverter.getID(player);
+
+        PlayerConverter.removeID(player);
+        assertNotSame(profile, PlayerConverter.getID(player), "A removed profile should not be returned anymore");
+    }
+
+    @Test
+    void removeKeepsProfileOfNewerLogin() {
+        final UUID uuid = UUID.randomUUID();
+        final Player oldPlayer = mockPlayer(uuid);
+        PlayerConverter.getID(oldPlayer);
+        final Player newPlayer = mockPlayer(uuid);
+        final OnlineProfile profile = PlayerConverter.getID(newPlayer);
+
+        PlayerConverter.removeID(oldPlayer);
+        assertSame(profile, PlayerConverter.getID(newPlayer), "The profile of the newer login should be kept");
+    }
+
+    @Test
+    void offlinePlayerIsNotCached() {
+        final Player player = mockOfflinePlayer(UUID.randomUUID());
+
+        assertNotSame(PlayerConverter.getID(player), PlayerConverter.getID(player),
+                "The profile of an offline player should not be cached");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void npcWithUuidOfOnlinePlayerIsNotCached() {
+        final UUID uuid = UUID.randomUUID();
+        final Player player = mockPlayer(uuid);
+        final OnlineProfile profile = PlayerConverter.getID(player);
+        final Player npc = mockOfflinePlayer(uuid);
+        when(npc.isOnline()).thenReturn(true);
+
+        assertNotSame(PlayerConverter.getID(npc), PlayerConverter.getID(npc),
+                "The profile of a player that is not in the online players should not be cached");
+        assertSame(profile, PlayerConverter.getID(player), "The profile of the online player should be kept");
+    }
+}